@@ -0,0 +1,157 @@
+package com.cdac.booking.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cdac.booking.entity.Booking;
+import com.cdac.booking.entity.BookingSeat;
+import com.cdac.booking.entity.BookingStatus;
+import com.cdac.booking.entity.PaymentStatus;
+
+/**
+ * Cost of writing one booking and its seats, as createNewBooking does.
+ *
+ * identity: the previous mapping, IDENTITY ids and one save per seat, so each
+ * row is its own INSERT. batched: the current Booking and BookingSeat mapping,
+ * table-allocated ids and saveAll, flushed as one batch per table.
+ *
+ * In-memory H2 answers in microseconds, so every statement and commit can be
+ * given a simulated network round trip (roundTripMicros) to stand in for a
+ * remote MySQL. Round trips per booking are printed at the end of each trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingInsertBenchmark {
+
+	private static final String URL = "jdbc:h2:mem:bookings;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+	@Param({"1", "4", "10"})
+	private int seats;
+
+	@Param({"0", "200"})
+	private int roundTripMicros;
+
+	private JdbcConnectionPool pool;
+	private RoundTripCountingDataSource dataSource;
+	private SessionFactory sessionFactory;
+	private List<String> seatNumbers;
+	private long bookings;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		pool = JdbcConnectionPool.create(URL, "sa", "");
+		dataSource = new RoundTripCountingDataSource(pool, roundTripMicros);
+
+		StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting(AvailableSettings.DATASOURCE, dataSource)
+				.applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				// Spring Boot's column naming, which the entities' index and constraint names assume
+				.applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new CamelCaseToUnderscoresNamingStrategy())
+				// As in application.properties
+				.applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+				.applySetting(AvailableSettings.ORDER_INSERTS, true)
+				.build();
+		sessionFactory = new MetadataSources(registry)
+				.addAnnotatedClass(Booking.class)
+				.addAnnotatedClass(BookingSeat.class)
+				.addAnnotatedClass(IdentityBooking.class)
+				.addAnnotatedClass(IdentityBookingSeat.class)
+				.buildMetadata()
+				.buildSessionFactory();
+
+		seatNumbers = IntStream.rangeClosed(1, seats).mapToObj(n -> "A" + n).toList();
+		dataSource.reset();
+	}
+
+	/**
+	 * Empties the booking tables between iterations so H2 does not grow for
+	 * the whole run. Goes around the counting DataSource.
+	 */
+	@Setup(Level.Iteration)
+	public void truncate() throws SQLException {
+		try (Connection connection = pool.getConnection(); Statement statement = connection.createStatement()) {
+			for (String table : List.of("bookings", "booking_seats", "identity_bookings", "identity_booking_seats")) {
+				statement.execute("TRUNCATE TABLE " + table);
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		System.out.printf("%n%.2f round trips per booking (%d seats)%n",
+				(double) dataSource.roundTrips() / bookings, seats);
+		sessionFactory.close();
+		pool.dispose();
+	}
+
+	@Benchmark
+	public Long identity() {
+		String key = nextIdempotencyKey();
+		return sessionFactory.fromTransaction(session -> {
+			IdentityBooking booking = IdentityBooking.builder().userId(42L).showId("bench-show")
+					.seatSessionId(key).totalAmount(BigDecimal.valueOf(150L * seats))
+					.status(BookingStatus.INITIATED).paymentStatus(PaymentStatus.PENDING)
+					.idempotencyKey(key).build();
+			session.persist(booking);
+
+			for (String seat : seatNumbers) {
+				session.persist(IdentityBookingSeat.builder().bookingId(booking.getId())
+						.seatNo(seat).price(BigDecimal.valueOf(150)).build());
+			}
+			return booking.getId();
+		});
+	}
+
+	@Benchmark
+	public Long batched() {
+		String key = nextIdempotencyKey();
+		return sessionFactory.fromTransaction(session -> {
+			Booking booking = Booking.builder().userId(42L).showId("bench-show")
+					.seatSessionId(key).totalAmount(BigDecimal.valueOf(150L * seats))
+					.status(BookingStatus.INITIATED).paymentStatus(PaymentStatus.PENDING)
+					.idempotencyKey(key).build();
+			session.persist(booking);
+
+			for (String seat : seatNumbers) {
+				session.persist(BookingSeat.builder().bookingId(booking.getId())
+						.seatNo(seat).price(BigDecimal.valueOf(150)).build());
+			}
+			session.flush();
+			return booking.getId();
+		});
+	}
+
+	private String nextIdempotencyKey() {
+		return "bench-" + (++bookings);
+	}
+}
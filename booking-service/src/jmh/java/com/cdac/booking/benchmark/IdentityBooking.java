@@ -0,0 +1,53 @@
+package com.cdac.booking.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.cdac.booking.entity.BookingStatus;
+import com.cdac.booking.entity.PaymentStatus;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Booking as mapped before table-allocated ids, kept as the baseline.
+ */
+@Entity
+@Table(name = "identity_bookings")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdentityBooking {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	private Long userId;
+	private String showId;
+
+	@Column(name = "seat_session_id", nullable = false)
+	private String seatSessionId;
+
+	private BigDecimal totalAmount;
+
+	@Enumerated(EnumType.STRING)
+	private BookingStatus status;
+
+	@Enumerated(EnumType.STRING)
+	private PaymentStatus paymentStatus;
+
+	@Column(nullable = false, unique = true)
+	private String idempotencyKey;
+
+	@Column(name = "seats_confirmed")
+	private boolean seatsConfirmed;
+
+	@Column(name = "seats_unlocked")
+	private boolean seatsUnlocked;
+
+	@Builder.Default
+	private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,32 @@
+package com.cdac.booking.benchmark;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * BookingSeat as mapped before table-allocated ids, kept as the baseline.
+ */
+@Entity
+@Table(name = "identity_booking_seats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdentityBookingSeat {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "booking_id", nullable = false)
+	private Long bookingId;
+
+	@Column(name = "seat_no", nullable = false)
+	private String seatNo;
+
+	@Column(nullable = false)
+	private BigDecimal price;
+}
@@ -0,0 +1,136 @@
+package com.cdac.booking.benchmark;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource that counts the calls a networked database would answer with a
+ * round trip (statement executions, batch executions, commits and rollbacks)
+ * and can delay each of them to stand in for network latency.
+ */
+class RoundTripCountingDataSource implements DataSource {
+
+	private static final Set<String> STATEMENT_ROUND_TRIPS = Set.of(
+			"execute", "executeQuery", "executeUpdate", "executeLargeUpdate",
+			"executeBatch", "executeLargeBatch");
+	private static final Set<String> CONNECTION_ROUND_TRIPS = Set.of("commit", "rollback");
+
+	private final DataSource target;
+	private final long roundTripNanos;
+	private final AtomicLong roundTrips = new AtomicLong();
+
+	RoundTripCountingDataSource(DataSource target, long roundTripMicros) {
+		this.target = target;
+		this.roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+	}
+
+	long roundTrips() {
+		return roundTrips.get();
+	}
+
+	void reset() {
+		roundTrips.set(0);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrap(target.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrap(target.getConnection(username, password));
+	}
+
+	private Connection wrap(Connection connection) {
+		return proxy(Connection.class, connection, (proxy, method, args) -> {
+			if (CONNECTION_ROUND_TRIPS.contains(method.getName())) {
+				roundTrip();
+			}
+			Object result = invoke(connection, method, args);
+			// Statements, PreparedStatements and CallableStatements
+			if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+				return wrap(method.getReturnType(), statement);
+			}
+			return result;
+		});
+	}
+
+	private Object wrap(Class<?> type, Statement statement) {
+		return proxy(type, statement, (proxy, method, args) -> {
+			if (STATEMENT_ROUND_TRIPS.contains(method.getName())) {
+				roundTrip();
+			}
+			return invoke(statement, method, args);
+		});
+	}
+
+	private void roundTrip() {
+		roundTrips.incrementAndGet();
+		if (roundTripNanos > 0) {
+			LockSupport.parkNanos(roundTripNanos);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(target.getClass().getClassLoader(), new Class<?>[] { type }, handler);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	@Override
+	public PrintWriter getLogWriter() throws SQLException {
+		return target.getLogWriter();
+	}
+
+	@Override
+	public void setLogWriter(PrintWriter out) throws SQLException {
+		target.setLogWriter(out);
+	}
+
+	@Override
+	public void setLoginTimeout(int seconds) throws SQLException {
+		target.setLoginTimeout(seconds);
+	}
+
+	@Override
+	public int getLoginTimeout() throws SQLException {
+		return target.getLoginTimeout();
+	}
+
+	@Override
+	public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+		return target.getParentLogger();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		return target.unwrap(iface);
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return target.isWrapperFor(iface);
+	}
+}
@@ -18,6 +18,14 @@ public interface PricingClient {
      */
     Map<String, BigDecimal> getSeatPrices(String showId, List<String> seatNumbers);
 
+    /**
+     * Get pricing for seats across several shows in one call
+     * 
+     * @param seatsByShow Show ID to the seat numbers to price
+     * @return Map of show ID to (seat number to price)
+     */
+    Map<String, Map<String, BigDecimal>> getSeatPrices(Map<String, List<String>> seatsByShow);
+
     /**
      * Get base price for a show
      * 
@@ -2,6 +2,7 @@ package com.cdac.booking.client;
 
 import com.cdac.booking.dto.seat.ApiResponseDto;
 import com.cdac.booking.dto.seat.GetSeatPricesRequest;
+import com.cdac.booking.dto.seat.QuoteSeatPricesRequest;
 import com.cdac.booking.feign.ShowSeatFeignClient;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
@@ -52,6 +53,33 @@ public class PricingClientImpl implements PricingClient {
         return getDefaultPrices(seatNumbers);
     }
 
+    @Override
+    @CircuitBreaker(name = "pricingService", fallbackMethod = "getSeatPricesForShowsFallback")
+    @Retry(name = "pricingService")
+    public Map<String, Map<String, BigDecimal>> getSeatPrices(Map<String, List<String>> seatsByShow) {
+        log.info("Fetching seat prices via Feign for {} shows", seatsByShow.size());
+
+        QuoteSeatPricesRequest request = QuoteSeatPricesRequest.builder()
+                .seatsByShow(seatsByShow)
+                .build();
+
+        ApiResponseDto<Map<String, Map<String, BigDecimal>>> response = showSeatFeignClient.quoteSeatPrices(request);
+
+        if (response == null || !Boolean.TRUE.equals(response.getSuccess()) || response.getData() == null) {
+            log.warn("Invalid pricing response, using defaults");
+            return getDefaultPrices(seatsByShow);
+        }
+
+        Map<String, Map<String, BigDecimal>> quotes = new HashMap<>(response.getData());
+        seatsByShow.forEach((showId, seatNumbers) -> {
+            if (!quotes.containsKey(showId)) {
+                log.warn("No prices returned for show {}, using defaults", showId);
+                quotes.put(showId, getDefaultPrices(seatNumbers));
+            }
+        });
+        return quotes;
+    }
+
     @Override
     @CircuitBreaker(name = "pricingService", fallbackMethod = "getShowBasePriceFallback")
     @Retry(name = "pricingService")
@@ -81,6 +109,15 @@ public class PricingClientImpl implements PricingClient {
         return getDefaultPrices(seatNumbers);
     }
 
+    /**
+     * Fallback when pricing service is unavailable for a multi-show quote
+     */
+    private Map<String, Map<String, BigDecimal>> getSeatPricesForShowsFallback(
+            Map<String, List<String>> seatsByShow, Exception ex) {
+        log.warn("Using fallback pricing for {} shows due to: {}", seatsByShow.size(), ex.getMessage());
+        return getDefaultPrices(seatsByShow);
+    }
+
     /**
      * Fallback for base price
      */
@@ -99,4 +136,13 @@ public class PricingClientImpl implements PricingClient {
         }
         return prices;
     }
+
+    /**
+     * Generate default prices for all seats of every show
+     */
+    private Map<String, Map<String, BigDecimal>> getDefaultPrices(Map<String, List<String>> seatsByShow) {
+        Map<String, Map<String, BigDecimal>> quotes = new HashMap<>();
+        seatsByShow.forEach((showId, seatNumbers) -> quotes.put(showId, getDefaultPrices(seatNumbers)));
+        return quotes;
+    }
 }
@@ -0,0 +1,109 @@
+package com.cdac.booking.client;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.cdac.booking.feign.CatalogueFeignClient;
+import com.cdac.booking.feign.ShowSeatFeignClient;
+import com.cdac.booking.feign.TheatreFeignClient;
+import com.cdac.booking.feign.dto.MovieResponseDto;
+import com.cdac.booking.feign.dto.ScreenResponseDto;
+import com.cdac.booking.feign.dto.ShowResponseDto;
+import com.cdac.booking.feign.dto.TheatreResponseDto;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process cache of the reference data shown on tickets: show details,
+ * movie titles, theatre and screen names.
+ *
+ * - Concurrent misses for the same id share one remote call.
+ * - Entries older than the refresh interval are still served while a single
+ *   background reload runs; a failed reload keeps the old value, so a
+ *   downstream outage shows the last known name until the entry expires.
+ * - Failed or empty loads are not cached.
+ *
+ * Returned futures are shared between callers; copy them before completing
+ * or timing them out.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+	private final AsyncLoadingCache<String, ShowResponseDto> shows;
+	private final AsyncLoadingCache<Long, String> movieTitles;
+	private final AsyncLoadingCache<Long, String> theatreNames;
+	private final AsyncLoadingCache<Long, String> screenNames;
+
+	public ReferenceDataCache(ShowSeatFeignClient showSeatFeignClient,
+			CatalogueFeignClient catalogueFeignClient,
+			TheatreFeignClient theatreFeignClient,
+			ThreadPoolTaskExecutor ticketEnrichmentExecutor,
+			MeterRegistry meterRegistry,
+			@Value("${quicktix.booking.reference-cache.max-entries:10000}") long maxEntries,
+			@Value("${quicktix.booking.reference-cache.show-refresh-seconds:60}") long showRefreshSeconds,
+			@Value("${quicktix.booking.reference-cache.refresh-seconds:600}") long refreshSeconds,
+			@Value("${quicktix.booking.reference-cache.expire-seconds:86400}") long expireSeconds) {
+
+		Caffeine<Object, Object> showSpec = spec(ticketEnrichmentExecutor, maxEntries, showRefreshSeconds, expireSeconds);
+		Caffeine<Object, Object> nameSpec = spec(ticketEnrichmentExecutor, maxEntries, refreshSeconds, expireSeconds);
+
+		this.shows = showSpec.buildAsync((CacheLoader<String, ShowResponseDto>) showId -> {
+			ShowResponseDto show = showSeatFeignClient.getShowById(showId).getData();
+			log.debug("Loaded show {} into reference cache", showId);
+			return show;
+		});
+		this.movieTitles = nameSpec.buildAsync((CacheLoader<Long, String>) movieId -> {
+			MovieResponseDto movie = catalogueFeignClient.getMovieById(movieId);
+			return movie != null ? movie.getTitle() : null;
+		});
+		this.theatreNames = nameSpec.buildAsync((CacheLoader<Long, String>) theatreId -> {
+			TheatreResponseDto theatre = theatreFeignClient.getTheatreById(theatreId);
+			return theatre != null ? theatre.getName() : null;
+		});
+		this.screenNames = nameSpec.buildAsync((CacheLoader<Long, String>) screenId -> {
+			ScreenResponseDto screen = theatreFeignClient.getScreenById(screenId);
+			return screen != null ? screen.getName() : null;
+		});
+
+		CaffeineCacheMetrics.monitor(meterRegistry, shows, "ticketShowCache");
+		CaffeineCacheMetrics.monitor(meterRegistry, movieTitles, "ticketMovieCache");
+		CaffeineCacheMetrics.monitor(meterRegistry, theatreNames, "ticketTheatreCache");
+		CaffeineCacheMetrics.monitor(meterRegistry, screenNames, "ticketScreenCache");
+	}
+
+	private static Caffeine<Object, Object> spec(ThreadPoolTaskExecutor executor, long maxEntries,
+			long refreshSeconds, long expireSeconds) {
+		return Caffeine.newBuilder()
+				.executor(executor)
+				.maximumSize(maxEntries)
+				.refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+				.expireAfterWrite(Duration.ofSeconds(expireSeconds))
+				.recordStats();
+	}
+
+	public CompletableFuture<ShowResponseDto> show(String showId) {
+		return shows.get(showId);
+	}
+
+	public CompletableFuture<String> movieTitle(Long movieId) {
+		return movieTitles.get(movieId);
+	}
+
+	public CompletableFuture<String> theatreName(Long theatreId) {
+		return theatreNames.get(theatreId);
+	}
+
+	public CompletableFuture<String> screenName(Long screenId) {
+		return screenNames.get(screenId);
+	}
+}
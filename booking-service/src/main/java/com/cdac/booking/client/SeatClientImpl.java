@@ -1,6 +1,7 @@
 package com.cdac.booking.client;
 
 import com.cdac.booking.dto.seat.*;
+import com.cdac.booking.exception.SeatAdmissionRequiredException;
 import com.cdac.booking.exception.SeatLockFailedException;
 import com.cdac.booking.feign.ShowSeatFeignClient;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
@@ -82,11 +83,19 @@ public class SeatClientImpl implements SeatClient {
 
 	// Fallback methods for circuit breaker
 	private LockSeatsResponseDto lockSeatsFallback(LockSeatsRequestDto request, Exception ex) {
+		if (ex instanceof SeatAdmissionRequiredException admissionRequired) {
+			// Not an outage: the user has to go through the show's waiting room
+			throw admissionRequired;
+		}
 		log.error("Circuit breaker: Seat service unavailable for lock. Error: {}", ex.getMessage());
 		throw new SeatLockFailedException("Seat service temporarily unavailable. Please try again later.");
 	}
 
 	private void confirmSeatsFallback(ConfirmSeatsRequestDto request, Exception ex) {
+		if (ex instanceof SeatLockFailedException conflict) {
+			// Not an outage: showseat refused the seats
+			throw conflict;
+		}
 		log.error("Circuit breaker: Seat service unavailable for confirm. Error: {}", ex.getMessage());
 		// In production, this should be queued for retry
 		throw new RuntimeException("Failed to confirm seats - service unavailable");
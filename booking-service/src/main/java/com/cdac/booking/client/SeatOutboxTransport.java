@@ -0,0 +1,44 @@
+package com.cdac.booking.client;
+
+import org.springframework.stereotype.Component;
+
+import com.cdac.booking.dto.seat.ConfirmSeatsRequestDto;
+import com.cdac.booking.dto.seat.UnlockSeatsRequestDto;
+import com.cdac.booking.entity.OutboxEvent;
+import com.cdac.booking.exception.OutboxEventRejectedException;
+import com.cdac.booking.exception.SeatLockFailedException;
+import com.cdac.booking.service.OutboxTransport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outbox transport that applies seat events to showseat through SeatClient.
+ *
+ * Releases are safe to repeat. showseat marks a booking processed in the same
+ * script call that books its seats, so a confirm repeated after a lost
+ * response succeeds as a replay. A confirm conflict therefore means the seats
+ * went to another booking; that is final, so it is rejected instead of retried.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatOutboxTransport implements OutboxTransport {
+
+	private final SeatClient seatClient;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public void send(OutboxEvent event) throws Exception {
+		switch (event.getEventType()) {
+			case SEATS_CONFIRM -> {
+				try {
+					seatClient.confirmSeats(objectMapper.readValue(event.getPayload(), ConfirmSeatsRequestDto.class));
+				} catch (SeatLockFailedException e) {
+					throw new OutboxEventRejectedException("Seats could not be confirmed: " + e.getMessage(), e);
+				}
+			}
+			case SEATS_RELEASE ->
+				seatClient.unlockSeats(objectMapper.readValue(event.getPayload(), UnlockSeatsRequestDto.class));
+		}
+	}
+}
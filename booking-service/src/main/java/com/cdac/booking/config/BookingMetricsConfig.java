@@ -0,0 +1,26 @@
+package com.cdac.booking.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Meters of the booking create saga.
+ *
+ * hikaricp.connections.usage already times every connection checkout of the
+ * pool; booking.create.transaction isolates the transactions of the saga so
+ * their hold time can be watched on its own.
+ */
+@Configuration
+public class BookingMetricsConfig {
+
+	@Bean
+	public Timer createBookingTransactionTimer(MeterRegistry meterRegistry) {
+		return Timer.builder("booking.create.transaction")
+				.description("Time a booking creation transaction holds its DB connection")
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+	}
+}
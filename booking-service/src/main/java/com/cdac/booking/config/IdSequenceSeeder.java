@@ -0,0 +1,47 @@
+package com.cdac.booking.config;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.cdac.booking.entity.IdSequences;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves each id sequence past the ids already in its table.
+ *
+ * Needed once for tables filled while ids were AUTO_INCREMENT, and harmless
+ * afterwards: the sequence is only ever raised, so instances can run this
+ * concurrently and while others are inserting.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceSeeder {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@PostConstruct
+	public void seed() {
+		seed(IdSequences.BOOKINGS, "bookings");
+		seed(IdSequences.BOOKING_SEATS, "booking_seats");
+		seed(IdSequences.OUTBOX_EVENTS, "outbox_events");
+	}
+
+	private void seed(String sequence, String table) {
+		// The generator hands out the block of ids just below the value it reads,
+		// so the value has to clear max(id) by a whole block
+		jdbcTemplate.update("INSERT INTO " + IdSequences.TABLE
+				+ " (" + IdSequences.NAME_COLUMN + ", " + IdSequences.VALUE_COLUMN + ")"
+				+ " SELECT ?, COALESCE(MAX(id), 0) + ? FROM " + table
+				+ " ON DUPLICATE KEY UPDATE " + IdSequences.VALUE_COLUMN
+				+ " = GREATEST(" + IdSequences.VALUE_COLUMN + ", VALUES(" + IdSequences.VALUE_COLUMN + "))",
+				sequence, IdSequences.ALLOCATION_SIZE + 1);
+
+		log.info("Id sequence {} seeded from {}", sequence, table);
+	}
+}
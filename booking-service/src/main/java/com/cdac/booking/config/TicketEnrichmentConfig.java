@@ -0,0 +1,31 @@
+package com.cdac.booking.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.cdac.booking.feign.config.ForwardedAuthorization;
+
+/**
+ * Executor for the concurrent show/movie/theatre/screen lookups of a ticket,
+ * also used by ReferenceDataCache for loads and refreshes.
+ *
+ * Tasks carry the caller's Authorization header so the Feign interceptor
+ * still forwards it from the worker threads.
+ */
+@Configuration
+public class TicketEnrichmentConfig {
+
+	@Bean
+	public ThreadPoolTaskExecutor ticketEnrichmentExecutor(
+			@Value("${quicktix.booking.ticket.enrichment-pool-size:16}") int poolSize) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(poolSize * 16);
+		executor.setThreadNamePrefix("ticket-enrich-");
+		executor.setTaskDecorator(ForwardedAuthorization::propagate);
+		return executor;
+	}
+}
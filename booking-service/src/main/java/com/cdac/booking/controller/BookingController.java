@@ -1,6 +1,7 @@
 package com.cdac.booking.controller;
 
 import com.cdac.booking.dto.BookingDetailsResponse;
+import com.cdac.booking.dto.BookingPageResponse;
 import com.cdac.booking.dto.CreateBookingRequest;
 import com.cdac.booking.dto.CreateBookingResponse;
 import com.cdac.booking.dto.TicketResponse;
@@ -75,4 +76,16 @@ public class BookingController {
 		log.info("GET /bookings/user/{}", userId);
 		return ResponseEntity.ok(bookingService.getUserBookings(userId));
 	}
+
+	/**
+	 * Get a page of bookings for a user, newest first
+	 */
+	@GetMapping("/user/{userId}/page")
+	public ResponseEntity<BookingPageResponse> getUserBookingsPage(
+			@PathVariable Long userId,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int size) {
+		log.info("GET /bookings/user/{}/page", userId);
+		return ResponseEntity.ok(bookingService.getUserBookingsPage(userId, cursor, size));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.cdac.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a user's bookings, newest first.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingPageResponse {
+
+    private List<BookingDetailsResponse> bookings;
+
+    // Pass back as ?cursor= for the next page; null on the last page
+    private String nextCursor;
+}
@@ -19,4 +19,7 @@ public class CreateBookingRequest {
 
 	@NotEmpty
 	private List<String> seatNos;
+
+	// Only needed while the show's waiting room is open
+	private String admissionToken;
 }
\ No newline at end of file
@@ -41,4 +41,7 @@ public class TicketResponse {
 
     // Timestamps
     private LocalDateTime bookedAt;
+
+    // Enrichments that fell back to placeholders: show, movie, theatre, screen
+    private List<String> degraded;
 }
\ No newline at end of file
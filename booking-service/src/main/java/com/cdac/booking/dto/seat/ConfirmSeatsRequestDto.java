@@ -2,18 +2,24 @@ package com.cdac.booking.dto.seat;
 
 import java.util.List;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Data
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ConfirmSeatsRequestDto {
 	private String showId;
 	private Long userId;
 	private String sessionId;
 	private List<String> seatNumbers;
+	// showseat answers a repeated confirm for the same booking as a replay
+	private Long bookingId;
 }
\ No newline at end of file
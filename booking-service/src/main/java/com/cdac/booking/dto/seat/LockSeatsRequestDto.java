@@ -16,4 +16,5 @@ public class LockSeatsRequestDto {
 	private Long userId;
 	private String sessionId;
 	private List<String> seatNumbers;
+	private String admissionToken;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.cdac.booking.dto.seat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request DTO for pricing seats across several shows in one call.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteSeatPricesRequest {
+    private Map<String, List<String>> seatsByShow;
+}
@@ -7,7 +7,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings", uniqueConstraints = @UniqueConstraint(columnNames = "idempotency_key"))
+// idx_bookings_user_created serves the (created_at, id) keyset pages of a user's
+// bookings; InnoDB appends the primary key to it, so id breaks ties in order
+@Table(name = "bookings",
+		uniqueConstraints = @UniqueConstraint(columnNames = "idempotency_key"),
+		indexes = @Index(name = "idx_bookings_user_created", columnList = "user_id, created_at"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +20,10 @@ import java.time.LocalDateTime;
 public class Booking {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "booking_id")
+	@TableGenerator(name = "booking_id", table = IdSequences.TABLE,
+			pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+			pkColumnValue = IdSequences.BOOKINGS, allocationSize = IdSequences.ALLOCATION_SIZE)
 	private Long id;
 
 	private Long userId;
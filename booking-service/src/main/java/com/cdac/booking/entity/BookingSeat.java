@@ -6,7 +6,7 @@ import lombok.*;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "booking_seats")
+@Table(name = "booking_seats", indexes = @Index(name = "idx_booking_seats_booking", columnList = "booking_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,7 +15,10 @@ import java.math.BigDecimal;
 public class BookingSeat {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "booking_seat_id")
+	@TableGenerator(name = "booking_seat_id", table = IdSequences.TABLE,
+			pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+			pkColumnValue = IdSequences.BOOKING_SEATS, allocationSize = IdSequences.ALLOCATION_SIZE)
 	private Long id;
 
 	@Column(name = "booking_id", nullable = false)
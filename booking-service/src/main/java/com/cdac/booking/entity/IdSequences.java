@@ -0,0 +1,26 @@
+package com.cdac.booking.entity;
+
+/**
+ * Table-backed id generators for entities written in JDBC batches.
+ *
+ * IDENTITY ids are only known after each row's INSERT, which stops Hibernate
+ * from batching. These ids come from the id_sequences table instead, reserved
+ * ALLOCATION_SIZE at a time, so a booking and its seats are assigned ids in
+ * memory and flushed together. IdSequenceSeeder moves each sequence past the
+ * ids already in its table on startup.
+ */
+public final class IdSequences {
+
+	public static final String TABLE = "id_sequences";
+	public static final String NAME_COLUMN = "sequence_name";
+	public static final String VALUE_COLUMN = "next_val";
+	public static final int ALLOCATION_SIZE = 50;
+
+	// Sequence names, one per entity table
+	public static final String BOOKINGS = "bookings";
+	public static final String BOOKING_SEATS = "booking_seats";
+	public static final String OUTBOX_EVENTS = "outbox_events";
+
+	private IdSequences() {
+	}
+}
@@ -0,0 +1,64 @@
+package com.cdac.booking.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox event - a call to another service, written in the same transaction
+ * as the booking change that requires it and delivered by OutboxRelay
+ */
+@Entity
+@Table(name = "outbox_events",
+		uniqueConstraints = @UniqueConstraint(columnNames = "dedup_key"),
+		indexes = @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_event_id")
+	@TableGenerator(name = "outbox_event_id", table = IdSequences.TABLE,
+			pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+			pkColumnValue = IdSequences.OUTBOX_EVENTS, allocationSize = IdSequences.ALLOCATION_SIZE)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "event_type", nullable = false)
+	private OutboxEventType eventType;
+
+	// Booking the event is about
+	@Column(name = "aggregate_id", nullable = false)
+	private Long aggregateId;
+
+	// One event per key, so a repeated payment callback does not enqueue twice
+	@Column(name = "dedup_key", nullable = false)
+	private String dedupKey;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	@Builder.Default
+	private OutboxStatus status = OutboxStatus.PENDING;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	// Earliest next delivery; also the lease of a relay that has claimed the event
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	@Builder.Default
+	private LocalDateTime createdAt = LocalDateTime.now();
+
+	private LocalDateTime sentAt;
+}
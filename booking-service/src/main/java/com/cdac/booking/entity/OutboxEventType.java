@@ -0,0 +1,9 @@
+package com.cdac.booking.entity;
+
+/**
+ * Kinds of events written to the outbox
+ */
+public enum OutboxEventType {
+	SEATS_CONFIRM, // Payload: ConfirmSeatsRequestDto for showseat
+	SEATS_RELEASE // Payload: UnlockSeatsRequestDto for showseat
+}
@@ -0,0 +1,11 @@
+package com.cdac.booking.entity;
+
+/**
+ * Delivery state of an outbox event
+ */
+public enum OutboxStatus {
+	PENDING, // Waiting for its next delivery attempt
+	SENT, // Delivered
+	DEAD, // Gave up after the maximum number of attempts; needs manual replay
+	REJECTED // Refused by the receiver, e.g. seats confirmed by another booking; needs a refund, not a replay
+}
@@ -24,6 +24,14 @@ public class GlobalExceptionHandler {
 		return buildError(HttpStatus.CONFLICT, ex.getMessage());
 	}
 
+	// -------------------------
+	// WAITING ROOM ADMISSION
+	// -------------------------
+	@ExceptionHandler(SeatAdmissionRequiredException.class)
+	public ResponseEntity<Map<String, Object>> handleSeatAdmission(SeatAdmissionRequiredException ex) {
+		return buildError(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage());
+	}
+
 	// -------------------------
 	// BOOKING NOT FOUND
 	// -------------------------
@@ -69,6 +77,11 @@ public class GlobalExceptionHandler {
 		return buildError(HttpStatus.BAD_REQUEST, "Malformed JSON request or missing body");
 	}
 
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException ex) {
+		return buildError(HttpStatus.BAD_REQUEST, ex.getMessage());
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
 		Map<String, String> errors = new HashMap<>();
@@ -0,0 +1,14 @@
+package com.cdac.booking.exception;
+
+/**
+ * The receiver of an outbox event refused it for good, so retrying cannot help.
+ * OutboxRelay marks such events REJECTED straight away.
+ */
+public class OutboxEventRejectedException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public OutboxEventRejectedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
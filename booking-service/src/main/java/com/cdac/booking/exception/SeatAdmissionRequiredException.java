@@ -0,0 +1,13 @@
+package com.cdac.booking.exception;
+
+/**
+ * The show has an open waiting room and the booking carried no valid admission token.
+ */
+public class SeatAdmissionRequiredException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public SeatAdmissionRequiredException(String message) {
+		super(message);
+	}
+}
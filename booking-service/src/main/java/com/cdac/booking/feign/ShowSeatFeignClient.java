@@ -49,6 +49,14 @@ public interface ShowSeatFeignClient {
             @PathVariable("showId") String showId,
             @RequestBody GetSeatPricesRequest request);
 
+    /**
+     * Get prices for seats across several shows.
+     * Returns show ID -> (seat number -> price); unknown shows are omitted.
+     */
+    @PostMapping("/api/show-seat/pricing/quote")
+    ApiResponseDto<Map<String, Map<String, BigDecimal>>> quoteSeatPrices(
+            @RequestBody QuoteSeatPricesRequest request);
+
     /**
      * Get base price for a show.
      */
@@ -2,11 +2,8 @@ package com.cdac.booking.feign.config;
 
 import feign.RequestInterceptor;
 import feign.codec.ErrorDecoder;
-import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * Feign configuration for JWT token propagation and error handling.
@@ -18,19 +15,15 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class FeignConfig {
 
     /**
-     * Request interceptor to propagate Authorization header to downstream services.
+     * Request interceptor to propagate Authorization header to downstream services,
+     * including calls made on worker threads (see {@link ForwardedAuthorization}).
      */
     @Bean
     public RequestInterceptor authorizationInterceptor() {
         return template -> {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder
-                    .getRequestAttributes();
-            if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                String authHeader = request.getHeader("Authorization");
-                if (authHeader != null && !authHeader.isEmpty()) {
-                    template.header("Authorization", authHeader);
-                }
+            String authHeader = ForwardedAuthorization.current();
+            if (authHeader != null && !authHeader.isEmpty()) {
+                template.header("Authorization", authHeader);
             }
         };
     }
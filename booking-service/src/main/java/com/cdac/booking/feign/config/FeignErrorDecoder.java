@@ -1,5 +1,6 @@
 package com.cdac.booking.feign.config;
 
+import com.cdac.booking.exception.SeatAdmissionRequiredException;
 import com.cdac.booking.exception.SeatLockFailedException;
 import feign.Response;
 import feign.codec.ErrorDecoder;
@@ -25,6 +26,8 @@ public class FeignErrorDecoder implements ErrorDecoder {
                 return new RuntimeException("Resource not found in downstream service");
             case 409:
                 return new SeatLockFailedException("Conflict - seats may already be locked");
+            case 429:
+                return new SeatAdmissionRequiredException("Waiting room is open for this show - join the queue before booking");
             case 503:
                 return new RuntimeException("Downstream service unavailable");
             default:
@@ -0,0 +1,47 @@
+package com.cdac.booking.feign.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Carries the caller's Authorization header to Feign calls made on worker threads.
+ *
+ * Only the header value crosses threads, never the servlet request, since a
+ * background call (e.g. a cache refresh) may outlive the request it started from.
+ */
+public final class ForwardedAuthorization {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ForwardedAuthorization() {
+    }
+
+    /**
+     * @return the Authorization header of the current request or worker task, or null
+     */
+    public static String current() {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder
+                .getRequestAttributes();
+        if (attributes != null) {
+            HttpServletRequest request = attributes.getRequest();
+            return request.getHeader("Authorization");
+        }
+        return CURRENT.get();
+    }
+
+    /**
+     * Wraps a task so that it runs with the Authorization header seen now.
+     */
+    public static Runnable propagate(Runnable task) {
+        String authorization = current();
+        return () -> {
+            CURRENT.set(authorization);
+            try {
+                task.run();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+}
@@ -9,8 +9,9 @@ import org.springframework.stereotype.Component;
 /**
  * Fallback factory for CatalogueFeignClient.
  * 
- * Provides graceful degradation when Catalogue service is unavailable.
- * Returns placeholder values instead of failing completely.
+ * Throws instead of returning placeholders, so ReferenceDataCache can keep
+ * serving the last known title; BookingService applies the placeholder when
+ * there is none.
  */
 @Slf4j
 @Component
@@ -26,11 +27,7 @@ public class CatalogueFeignClientFallbackFactory implements FallbackFactory<Cata
                 log.warn("Fallback: Unable to fetch movie {} from Catalogue service. Error: {}",
                         movieId, cause.getMessage());
 
-                // Return placeholder data for graceful degradation
-                MovieResponseDto fallback = new MovieResponseDto();
-                fallback.setId(movieId);
-                fallback.setTitle("Movie Unavailable");
-                return fallback;
+                throw new RuntimeException("Catalogue service temporarily unavailable.");
             }
         };
     }
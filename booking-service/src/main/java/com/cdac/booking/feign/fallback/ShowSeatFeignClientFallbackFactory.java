@@ -39,6 +39,10 @@ public class ShowSeatFeignClientFallbackFactory implements FallbackFactory<ShowS
 
             @Override
             public ApiResponseDto<Void> confirmSeats(ConfirmSeatsRequestDto request) {
+                if (cause instanceof SeatLockFailedException conflict) {
+                    // 409 from showseat: the seats are booked or held by someone else
+                    throw conflict;
+                }
                 log.error("Fallback: Unable to confirm seats for show {}. Error: {}",
                         request.getShowId(), cause.getMessage());
                 // In production, this should be queued for retry
@@ -78,6 +82,30 @@ public class ShowSeatFeignClientFallbackFactory implements FallbackFactory<ShowS
                 return response;
             }
 
+            @Override
+            public ApiResponseDto<Map<String, Map<String, BigDecimal>>> quoteSeatPrices(
+                    QuoteSeatPricesRequest request) {
+                log.warn("Fallback: Using default pricing for shows {}. Error: {}",
+                        request.getSeatsByShow().keySet(), cause.getMessage());
+
+                // Return default pricing as fallback
+                Map<String, Map<String, BigDecimal>> quotes = new HashMap<>();
+                BigDecimal defaultPrice = BigDecimal.valueOf(150);
+                request.getSeatsByShow().forEach((showId, seats) -> {
+                    Map<String, BigDecimal> defaultPrices = new HashMap<>();
+                    for (String seat : seats) {
+                        defaultPrices.put(seat, defaultPrice);
+                    }
+                    quotes.put(showId, defaultPrices);
+                });
+
+                ApiResponseDto<Map<String, Map<String, BigDecimal>>> response = new ApiResponseDto<>();
+                response.setSuccess(true);
+                response.setData(quotes);
+                response.setMessage("Fallback pricing applied");
+                return response;
+            }
+
             @Override
             public ApiResponseDto<Map<String, Object>> getShowBasePrice(String showId) {
                 log.warn("Fallback: Using default base price for show {}. Error: {}",
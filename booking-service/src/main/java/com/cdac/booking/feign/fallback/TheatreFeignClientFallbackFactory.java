@@ -10,8 +10,9 @@ import org.springframework.stereotype.Component;
 /**
  * Fallback factory for TheatreFeignClient.
  * 
- * Provides graceful degradation when Theatre service is unavailable.
- * Returns placeholder values instead of failing completely.
+ * Throws instead of returning placeholders, so ReferenceDataCache can keep
+ * serving the last known names; BookingService applies the placeholders when
+ * there are none.
  */
 @Slf4j
 @Component
@@ -27,12 +28,7 @@ public class TheatreFeignClientFallbackFactory implements FallbackFactory<Theatr
                 log.warn("Fallback: Unable to fetch theatre {} from Theatre service. Error: {}",
                         theatreId, cause.getMessage());
 
-                // Return placeholder data for graceful degradation
-                TheatreResponseDto fallback = new TheatreResponseDto();
-                fallback.setTheatreId(theatreId);
-                fallback.setName("Theatre Unavailable");
-                fallback.setAddress("N/A");
-                return fallback;
+                throw new RuntimeException("Theatre service temporarily unavailable.");
             }
 
             @Override
@@ -40,11 +36,7 @@ public class TheatreFeignClientFallbackFactory implements FallbackFactory<Theatr
                 log.warn("Fallback: Unable to fetch screen {} from Theatre service. Error: {}",
                         screenId, cause.getMessage());
 
-                // Return placeholder data for graceful degradation
-                ScreenResponseDto fallback = new ScreenResponseDto();
-                fallback.setScreenId(screenId);
-                fallback.setName("Screen Unavailable");
-                return fallback;
+                throw new RuntimeException("Theatre service temporarily unavailable.");
             }
         };
     }
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -36,6 +37,24 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 	 */
 	List<Booking> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+	/**
+	 * First page of a user's bookings, newest first
+	 */
+	List<Booking> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+
+	/**
+	 * Next page of a user's bookings: those strictly after (createdAt, id) in
+	 * newest-first order
+	 */
+	@Query("SELECT b FROM Booking b WHERE b.userId = :userId "
+			+ "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) "
+			+ "ORDER BY b.createdAt DESC, b.id DESC")
+	List<Booking> findUserBookingsAfter(
+			@Param("userId") Long userId,
+			@Param("createdAt") LocalDateTime createdAt,
+			@Param("id") Long id,
+			Pageable pageable);
+
 	/**
 	 * Find bookings by status
 	 */
@@ -1,5 +1,6 @@
 package com.cdac.booking.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,4 +10,6 @@ import com.cdac.booking.entity.BookingSeat;
 public interface BookingSeatRepository extends JpaRepository<BookingSeat, Long> {
 
 	List<BookingSeat> findByBookingId(Long bookingId);
+
+	List<BookingSeat> findByBookingIdIn(Collection<Long> bookingIds);
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.cdac.booking.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.cdac.booking.entity.OutboxEvent;
+import com.cdac.booking.entity.OutboxStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Outbox event repository for the relay
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	boolean existsByDedupKey(String dedupKey);
+
+	/**
+	 * Lock due events, oldest first. Rows locked by another relay instance
+	 * are skipped (FOR UPDATE SKIP LOCKED) rather than waited for.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("SELECT e FROM OutboxEvent e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+	List<OutboxEvent> findDue(
+			@Param("status") OutboxStatus status,
+			@Param("now") LocalDateTime now,
+			Pageable pageable);
+
+	@Modifying
+	@Query("UPDATE OutboxEvent e SET e.status = com.cdac.booking.entity.OutboxStatus.SENT, "
+			+ "e.sentAt = :sentAt, e.lastError = null WHERE e.id IN :ids")
+	int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+	/**
+	 * Hand claimed events back to the queue without counting the attempt
+	 */
+	@Modifying
+	@Query("UPDATE OutboxEvent e SET e.nextAttemptAt = :now, e.attempts = e.attempts - 1 "
+			+ "WHERE e.id IN :ids AND e.status = com.cdac.booking.entity.OutboxStatus.PENDING")
+	int release(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("UPDATE OutboxEvent e SET e.status = :status, e.nextAttemptAt = :nextAttemptAt, "
+			+ "e.lastError = :lastError WHERE e.id = :id")
+	int markFailed(
+			@Param("id") Long id,
+			@Param("status") OutboxStatus status,
+			@Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+			@Param("lastError") String lastError);
+}
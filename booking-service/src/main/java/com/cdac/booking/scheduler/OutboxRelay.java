@@ -0,0 +1,188 @@
+package com.cdac.booking.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cdac.booking.entity.OutboxEvent;
+import com.cdac.booking.entity.OutboxStatus;
+import com.cdac.booking.exception.OutboxEventRejectedException;
+import com.cdac.booking.repository.OutboxEventRepository;
+import com.cdac.booking.service.OutboxTransport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Polls the outbox and delivers due events through the OutboxTransport.
+ *
+ * Each poll claims up to batch-size events in a short transaction: the rows
+ * are locked with SKIP LOCKED, so instances share the work, and their next
+ * attempt is pushed out by the lease so a relay that dies mid-batch only
+ * delays them. Delivery happens outside any transaction and each event is
+ * marked sent as soon as it is delivered; deliveries that could outrun the
+ * lease are handed back instead of started. Failed events are retried with
+ * exponential backoff and jitter until max-attempts, then marked DEAD; events
+ * the transport rejects outright are marked REJECTED at once.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxTransport outboxTransport;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${quicktix.booking.outbox.batch-size:50}")
+	private int batchSize;
+
+	@Value("${quicktix.booking.outbox.lease-seconds:120}")
+	private long leaseSeconds;
+
+	// Longest a single delivery can take, client retries included
+	@Value("${quicktix.booking.outbox.delivery-timeout-ms:65000}")
+	private long deliveryTimeoutMs;
+
+	@Value("${quicktix.booking.outbox.initial-backoff-ms:1000}")
+	private long initialBackoffMs;
+
+	@Value("${quicktix.booking.outbox.max-backoff-ms:300000}")
+	private long maxBackoffMs;
+
+	@Value("${quicktix.booking.outbox.max-attempts:15}")
+	private int maxAttempts;
+
+	@Scheduled(fixedDelayString = "${quicktix.booking.outbox.poll-interval-ms:500}")
+	public void relay() {
+		List<OutboxEvent> batch;
+		try {
+			batch = claim();
+		} catch (Exception e) {
+			log.error("Failed to claim outbox events: {}", e.getMessage());
+			return;
+		}
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		// Every event of the batch is leased until the same instant; past it
+		// another instance may claim them, so only start a delivery that can
+		// finish in time and hand the rest back. The first one always goes,
+		// so a lease shorter than delivery-timeout-ms cannot stall the outbox
+		LocalDateTime leaseEnd = batch.get(0).getNextAttemptAt();
+		int sent = 0;
+		for (int i = 0; i < batch.size(); i++) {
+			OutboxEvent event = batch.get(i);
+			if (i > 0 && LocalDateTime.now().plus(Duration.ofMillis(deliveryTimeoutMs)).isAfter(leaseEnd)) {
+				release(batch.subList(i, batch.size()));
+				break;
+			}
+			try {
+				outboxTransport.send(event);
+			} catch (Exception e) {
+				reschedule(event, e);
+				continue;
+			}
+			markSent(event);
+			sent++;
+		}
+		log.debug("Outbox relay delivered {} of {} events", sent, batch.size());
+	}
+
+	/**
+	 * Marks one event sent right after its delivery, so a slow batch never
+	 * leaves delivered events PENDING for another relay to send again
+	 */
+	private void markSent(OutboxEvent event) {
+		try {
+			transactionTemplate.executeWithoutResult(
+					status -> outboxEventRepository.markSent(List.of(event.getId()), LocalDateTime.now()));
+		} catch (Exception e) {
+			// Delivered again after the lease; receivers tolerate duplicates
+			log.error("Failed to mark outbox event {} sent: {}", event.getDedupKey(), e.getMessage());
+			return;
+		}
+		meterRegistry.counter("outbox.sent").increment();
+		meterRegistry.timer("outbox.delivery.lag", "type", event.getEventType().name())
+				.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+	}
+
+	private void release(List<OutboxEvent> remaining) {
+		List<Long> ids = remaining.stream().map(OutboxEvent::getId).toList();
+		log.warn("Outbox lease too short for {} more deliveries, releasing them", ids.size());
+		try {
+			transactionTemplate.executeWithoutResult(
+					status -> outboxEventRepository.release(ids, LocalDateTime.now()));
+		} catch (Exception e) {
+			// Still leased, so they are picked up once the lease runs out
+			log.error("Failed to release outbox events {}: {}", ids, e.getMessage());
+		}
+	}
+
+	private List<OutboxEvent> claim() {
+		return transactionTemplate.execute(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			List<OutboxEvent> due = outboxEventRepository.findDue(OutboxStatus.PENDING, now,
+					PageRequest.of(0, batchSize));
+			due.forEach(event -> {
+				event.setAttempts(event.getAttempts() + 1);
+				event.setNextAttemptAt(now.plusSeconds(leaseSeconds));
+			});
+			return due;
+		});
+	}
+
+	private void reschedule(OutboxEvent event, Exception e) {
+		String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+		if (error.length() > 500) {
+			error = error.substring(0, 500);
+		}
+
+		OutboxStatus status = OutboxStatus.PENDING;
+		LocalDateTime nextAttemptAt = LocalDateTime.now().plus(Duration.ofMillis(backoffMs(event.getAttempts())));
+		if (e instanceof OutboxEventRejectedException) {
+			status = OutboxStatus.REJECTED;
+			log.error("Outbox event {} rejected by the receiver, booking {} needs a refund: {}",
+					event.getDedupKey(), event.getAggregateId(), error);
+			meterRegistry.counter("outbox.rejected", "type", event.getEventType().name()).increment();
+		} else if (event.getAttempts() >= maxAttempts) {
+			status = OutboxStatus.DEAD;
+			log.error("Outbox event {} dead after {} attempts, needs manual replay: {}",
+					event.getDedupKey(), event.getAttempts(), error);
+			meterRegistry.counter("outbox.dead", "type", event.getEventType().name()).increment();
+		} else {
+			log.warn("Outbox event {} failed (attempt {}), retrying at {}: {}",
+					event.getDedupKey(), event.getAttempts(), nextAttemptAt, error);
+			meterRegistry.counter("outbox.retried").increment();
+		}
+
+		OutboxStatus newStatus = status;
+		String lastError = error;
+		try {
+			transactionTemplate.executeWithoutResult(tx -> outboxEventRepository.markFailed(
+					event.getId(), newStatus, nextAttemptAt, lastError));
+		} catch (Exception ex) {
+			// The lease still expires, so the event is retried anyway
+			log.error("Failed to reschedule outbox event {}: {}", event.getDedupKey(), ex.getMessage());
+		}
+	}
+
+	/**
+	 * Exponential backoff with equal jitter: half fixed, half random, so
+	 * events that failed together do not all retry in the same poll
+	 */
+	private long backoffMs(int attempts) {
+		long backoff = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempts - 1, 20));
+		return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+	}
+}
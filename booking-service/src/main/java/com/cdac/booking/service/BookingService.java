@@ -1,23 +1,38 @@
 package com.cdac.booking.service;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.cdac.booking.dto.BookingDetailsResponse;
+import com.cdac.booking.dto.BookingPageResponse;
 import com.cdac.booking.dto.TicketResponse;
 
 import com.cdac.booking.client.PaymentClient;
 import com.cdac.booking.client.PricingClient;
+import com.cdac.booking.client.ReferenceDataCache;
 import com.cdac.booking.client.SeatClient;
 import com.cdac.booking.dto.CreateBookingRequest;
 import com.cdac.booking.dto.CreateBookingResponse;
-import com.cdac.booking.dto.seat.ApiResponseDto;
 import com.cdac.booking.dto.seat.ConfirmSeatsRequestDto;
 import com.cdac.booking.dto.seat.LockSeatsRequestDto;
 import com.cdac.booking.dto.seat.LockSeatsResponseDto;
@@ -25,19 +40,17 @@ import com.cdac.booking.dto.seat.UnlockSeatsRequestDto;
 import com.cdac.booking.entity.Booking;
 import com.cdac.booking.entity.BookingSeat;
 import com.cdac.booking.entity.BookingStatus;
+import com.cdac.booking.entity.OutboxEventType;
 import com.cdac.booking.entity.PaymentStatus;
 import com.cdac.booking.exception.BookingNotFoundException;
+import com.cdac.booking.exception.DuplicateBookingException;
+import com.cdac.booking.exception.PaymentProcessingException;
 import com.cdac.booking.exception.SeatLockFailedException;
-import com.cdac.booking.feign.CatalogueFeignClient;
-import com.cdac.booking.feign.ShowSeatFeignClient;
-import com.cdac.booking.feign.TheatreFeignClient;
-import com.cdac.booking.feign.dto.MovieResponseDto;
-import com.cdac.booking.feign.dto.ScreenResponseDto;
 import com.cdac.booking.feign.dto.ShowResponseDto;
-import com.cdac.booking.feign.dto.TheatreResponseDto;
 import com.cdac.booking.repository.BookingRepository;
 import com.cdac.booking.repository.BookingSeatRepository;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -48,62 +61,129 @@ import lombok.extern.slf4j.Slf4j;
  * Falls back to default pricing if pricing service is unavailable.
  * 
  * Ticket details are enriched via Feign calls to ShowSeat, Catalogue, and
- * Theatre services.
+ * Theatre services, through the local ReferenceDataCache.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BookingService {
 
+	private static final int MAX_BOOKINGS_PAGE_SIZE = 100;
+
 	private final BookingRepository bookingRepository;
 	private final BookingSeatRepository bookingSeatRepository;
 	private final PaymentClient paymentClient;
 	private final SeatClient seatClient;
 	private final PricingClient pricingClient;
+	private final OutboxService outboxService;
+
+	// Cached reference data for ticket enrichment
+	private final ReferenceDataCache referenceDataCache;
 
-	// Feign clients for ticket enrichment
-	private final ShowSeatFeignClient showSeatFeignClient;
-	private final CatalogueFeignClient catalogueFeignClient;
-	private final TheatreFeignClient theatreFeignClient;
+	// Short transactions of the create saga
+	private final TransactionTemplate transactionTemplate;
+	private final Timer createBookingTransactionTimer;
+
+	@Value("${quicktix.booking.ticket.enrichment-timeout-ms:2000}")
+	private long enrichmentTimeoutMs;
 
 	// =========================
 	// CREATE BOOKING
 	// =========================
-	@Transactional
-	public CreateBookingResponse createBooking(String idempotencyKey, CreateBookingRequest request) {
 
-		return bookingRepository.findByIdempotencyKey(idempotencyKey)
-				.map(existing -> CreateBookingResponse.builder().bookingId(existing.getId())
-						.bookingStatus(existing.getStatus().name()).paymentStatus(existing.getPaymentStatus().name())
-						.amount(existing.getTotalAmount()).build())
-				.orElseGet(() -> createNewBooking(idempotencyKey, request));
-	}
+	/**
+	 * Create a booking as a saga, so no DB connection is held across a remote call
+	 *
+	 * 1. Lock the seats and quote their prices (showseat)
+	 * 2. Persist the booking and its seats in one short transaction
+	 * 3. Initiate payment once that transaction has committed
+	 *
+	 * A failure after the lock releases the seats; a failed payment initiation
+	 * also cancels the committed booking. Seat locks expire by TTL if even the
+	 * compensation cannot reach showseat.
+	 */
+	public CreateBookingResponse createBooking(String idempotencyKey, CreateBookingRequest request) {
 
-	private CreateBookingResponse createNewBooking(String idempotencyKey, CreateBookingRequest request) {
+		Optional<Booking> existing = bookingRepository.findByIdempotencyKey(idempotencyKey);
+		if (existing.isPresent()) {
+			return toCreateBookingResponse(existing.get());
+		}
 
 		String sessionId = UUID.randomUUID().toString();
 
 		LockSeatsRequestDto lockRequest = LockSeatsRequestDto.builder().showId(request.getShowId())
-				.userId(request.getUserId()).sessionId(sessionId).seatNumbers(request.getSeatNos()).build();
+				.userId(request.getUserId()).sessionId(sessionId).seatNumbers(request.getSeatNos())
+				.admissionToken(request.getAdmissionToken()).build();
 
-		LockSeatsResponseDto lockResponse = seatClient.lockSeats(lockRequest);
+		LockSeatsResponseDto lockResponse;
+		try {
+			lockResponse = seatClient.lockSeats(lockRequest);
+		} catch (SeatLockFailedException e) {
+			return retriedBooking(idempotencyKey).orElseThrow(() -> e);
+		}
 
 		// CRITICAL SAFETY CHECK
 		List<String> failedSeats = lockResponse.getFailedSeats();
 		if (failedSeats != null && !failedSeats.isEmpty()) {
-			throw new SeatLockFailedException("Seats could not be locked: " + failedSeats);
+			releaseSeats(request.getShowId(), request.getUserId(), sessionId, lockResponse.getLockedSeats());
+			return retriedBooking(idempotencyKey).orElseThrow(
+					() -> new SeatLockFailedException("Seats could not be locked: " + failedSeats));
 		}
 
 		List<String> confirmedSeats = lockResponse.getLockedSeats();
 
-		// ========================================
-		// DYNAMIC PRICING - Fetch from ShowSeat
-		// ========================================
-		Map<String, BigDecimal> seatPrices = pricingClient.getSeatPrices(
-				request.getShowId(),
-				confirmedSeats);
+		Booking booking;
+		try {
+			// ========================================
+			// DYNAMIC PRICING - Fetch from ShowSeat
+			// ========================================
+			Map<String, BigDecimal> seatPrices = pricingClient.getSeatPrices(
+					request.getShowId(),
+					confirmedSeats);
+
+			log.info("Fetched dynamic pricing for {} seats: {}", confirmedSeats.size(), seatPrices);
+
+			booking = createBookingTransactionTimer.record(() -> transactionTemplate.execute(
+					status -> persistBooking(idempotencyKey, request, sessionId, confirmedSeats, seatPrices)));
+		} catch (RuntimeException e) {
+			releaseSeats(request.getShowId(), request.getUserId(), sessionId, confirmedSeats);
+
+			if (e instanceof DataIntegrityViolationException) {
+				// A concurrent request with the same idempotency key committed first
+				return retriedBooking(idempotencyKey)
+						.orElseThrow(() -> new DuplicateBookingException(idempotencyKey));
+			}
+			throw e;
+		}
+
+		try {
+			paymentClient.initiatePayment(booking.getId(), booking.getUserId(), booking.getTotalAmount(),
+					idempotencyKey);
+		} catch (RuntimeException e) {
+			log.error("Payment initiation failed for booking {}, cancelling it: {}", booking.getId(), e.getMessage());
+			releaseSeats(booking.getShowId(), booking.getUserId(), sessionId, confirmedSeats);
+			cancelBooking(booking.getId());
+			throw new PaymentProcessingException("Payment could not be initiated for booking " + booking.getId()
+					+ ". Seats have been released, please start a new booking.");
+		}
+
+		return toCreateBookingResponse(booking);
+	}
+
+	/**
+	 * A concurrent retry with the same idempotency key asks for the seats the
+	 * first request already holds, so its lock conflicts. If that first request
+	 * has committed by now, the retry gets its booking instead of the conflict.
+	 */
+	private Optional<CreateBookingResponse> retriedBooking(String idempotencyKey) {
+		return bookingRepository.findByIdempotencyKey(idempotencyKey).map(this::toCreateBookingResponse);
+	}
 
-		log.info("Fetched dynamic pricing for {} seats: {}", confirmedSeats.size(), seatPrices);
+	/**
+	 * Saga step 2: the only part of creation that holds a DB connection
+	 */
+	private Booking persistBooking(String idempotencyKey, CreateBookingRequest request, String sessionId,
+			List<String> confirmedSeats, Map<String, BigDecimal> seatPrices) {
 
 		// Calculate total amount from dynamic prices
 		BigDecimal totalAmount = seatPrices.values().stream()
@@ -115,18 +195,53 @@ public class BookingService {
 						.idempotencyKey(idempotencyKey).build());
 
 		// Save individual seat prices
-		confirmedSeats.forEach(seat -> {
-			BigDecimal seatPrice = seatPrices.getOrDefault(seat, BigDecimal.ZERO);
-			bookingSeatRepository.save(
-					BookingSeat.builder()
-							.bookingId(booking.getId())
-							.seatNo(seat)
-							.price(seatPrice)
-							.build());
-		});
-
-		paymentClient.initiatePayment(booking.getId(), booking.getUserId(), booking.getTotalAmount(), idempotencyKey);
+		bookingSeatRepository.saveAll(confirmedSeats.stream()
+				.map(seat -> BookingSeat.builder()
+						.bookingId(booking.getId())
+						.seatNo(seat)
+						.price(seatPrices.getOrDefault(seat, BigDecimal.ZERO))
+						.build())
+				.collect(Collectors.toList()));
+
+		return booking;
+	}
+
+	/**
+	 * Compensation: release seats locked by this saga
+	 * Never throws, so it cannot hide the failure being compensated.
+	 */
+	private void releaseSeats(String showId, Long userId, String sessionId, List<String> seatNumbers) {
+		if (seatNumbers == null || seatNumbers.isEmpty()) {
+			return;
+		}
+		try {
+			seatClient.unlockSeats(UnlockSeatsRequestDto.builder().showId(showId).userId(userId)
+					.sessionId(sessionId).seatNumbers(seatNumbers).build());
+		} catch (Exception e) {
+			log.warn("Failed to release seats {} of session {}, leaving them to the lock TTL: {}",
+					seatNumbers, sessionId, e.getMessage());
+		}
+	}
+
+	/**
+	 * Compensation: cancel a committed booking whose payment never started
+	 */
+	private void cancelBooking(Long bookingId) {
+		try {
+			createBookingTransactionTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+				Booking booking = bookingRepository.findById(bookingId)
+						.orElseThrow(() -> new BookingNotFoundException(bookingId));
+				booking.setStatus(BookingStatus.CANCELLED);
+				booking.setPaymentStatus(PaymentStatus.FAILED);
+				booking.setSeatsUnlocked(true);
+			}));
+		} catch (Exception e) {
+			// Still INITIATED: BookingCleanupScheduler expires it after the timeout
+			log.error("Failed to cancel booking {}: {}", bookingId, e.getMessage());
+		}
+	}
 
+	private CreateBookingResponse toCreateBookingResponse(Booking booking) {
 		return CreateBookingResponse.builder().bookingId(booking.getId()).bookingStatus(booking.getStatus().name())
 				.paymentStatus(booking.getPaymentStatus().name()).amount(booking.getTotalAmount()).build();
 	}
@@ -134,6 +249,14 @@ public class BookingService {
 	// =========================
 	// PAYMENT CALLBACK (RETRY SAFE)
 	// =========================
+
+	/**
+	 * Apply a payment outcome to the booking
+	 * The seat confirm/release for showseat goes through the outbox in this
+	 * transaction, so the callback does not wait on showseat and the seat
+	 * update is retried by OutboxRelay until it lands. The seats flags mean
+	 * the update has been scheduled.
+	 */
 	@Transactional
 	public void handlePaymentUpdate(Long bookingId, String paymentStatus, Long paymentId, String failureReason) {
 		log.info("Processing payment update: bookingId={}, status={}, paymentId={}, reason={}",
@@ -156,9 +279,10 @@ public class BookingService {
 			booking.setStatus(BookingStatus.CONFIRMED);
 
 			if (!booking.isSeatsConfirmed()) {
-				seatClient.confirmSeats(
+				outboxService.enqueue(OutboxEventType.SEATS_CONFIRM, bookingId, "booking:" + bookingId + ":SEATS_CONFIRM",
 						ConfirmSeatsRequestDto.builder().showId(booking.getShowId()).userId(booking.getUserId())
-								.sessionId(booking.getSeatSessionId()).seatNumbers(seatNumbers).build());
+								.sessionId(booking.getSeatSessionId()).seatNumbers(seatNumbers).bookingId(bookingId)
+								.build());
 				booking.setSeatsConfirmed(true);
 			}
 
@@ -168,7 +292,7 @@ public class BookingService {
 			booking.setStatus(BookingStatus.CANCELLED);
 
 			if (!booking.isSeatsUnlocked()) {
-				seatClient.unlockSeats(
+				outboxService.enqueue(OutboxEventType.SEATS_RELEASE, bookingId, "booking:" + bookingId + ":SEATS_RELEASE",
 						UnlockSeatsRequestDto.builder().showId(booking.getShowId()).userId(booking.getUserId())
 								.sessionId(booking.getSeatSessionId()).seatNumbers(seatNumbers).build());
 				booking.setSeatsUnlocked(true);
@@ -203,21 +327,48 @@ public class BookingService {
 
 	/**
 	 * Get all bookings for a user
+	 * Unbounded; getUserBookingsPage is the paginated alternative
 	 */
 	@Transactional(readOnly = true)
 	public List<BookingDetailsResponse> getUserBookings(Long userId) {
 		log.info("Fetching bookings for userId={}", userId);
 
-		return bookingRepository.findByUserIdOrderByCreatedAtDesc(userId)
-				.stream()
-				.map(booking -> {
-					List<String> seatNumbers = bookingSeatRepository.findByBookingId(booking.getId())
-							.stream()
-							.map(BookingSeat::getSeatNo)
-							.collect(Collectors.toList());
-					return buildBookingDetailsResponse(booking, seatNumbers);
-				})
-				.collect(Collectors.toList());
+		return buildBookingDetailsResponses(bookingRepository.findByUserIdOrderByCreatedAtDesc(userId));
+	}
+
+	/**
+	 * Get one page of a user's bookings, newest first
+	 * Keyset pagination on (createdAt, id): the cursor names the last booking
+	 * of the previous page, so pages do not shift when new bookings arrive and
+	 * a deep page costs the same as the first.
+	 */
+	@Transactional(readOnly = true)
+	public BookingPageResponse getUserBookingsPage(Long userId, String cursor, int size) {
+		if (size < 1 || size > MAX_BOOKINGS_PAGE_SIZE) {
+			throw new IllegalArgumentException("Page size must be between 1 and " + MAX_BOOKINGS_PAGE_SIZE);
+		}
+		log.info("Fetching bookings page for userId={}, cursor={}, size={}", userId, cursor, size);
+
+		// One extra row tells whether there is a next page
+		Pageable limit = PageRequest.of(0, size + 1);
+		List<Booking> bookings;
+		if (cursor == null || cursor.isBlank()) {
+			bookings = bookingRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit);
+		} else {
+			BookingCursor after = BookingCursor.decode(cursor);
+			bookings = bookingRepository.findUserBookingsAfter(userId, after.createdAt(), after.id(), limit);
+		}
+
+		String nextCursor = null;
+		if (bookings.size() > size) {
+			bookings = bookings.subList(0, size);
+			nextCursor = BookingCursor.of(bookings.get(size - 1)).encode();
+		}
+
+		return BookingPageResponse.builder()
+				.bookings(buildBookingDetailsResponses(bookings))
+				.nextCursor(nextCursor)
+				.build();
 	}
 
 	/**
@@ -238,6 +389,54 @@ public class BookingService {
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Build BookingDetailsResponses for a list of bookings, loading the seats
+	 * of all of them with one IN query
+	 */
+	private List<BookingDetailsResponse> buildBookingDetailsResponses(List<Booking> bookings) {
+		if (bookings.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, List<String>> seatsByBooking = bookingSeatRepository
+				.findByBookingIdIn(bookings.stream().map(Booking::getId).collect(Collectors.toList()))
+				.stream()
+				.collect(Collectors.groupingBy(BookingSeat::getBookingId,
+						Collectors.mapping(BookingSeat::getSeatNo, Collectors.toList())));
+
+		return bookings.stream()
+				.map(booking -> buildBookingDetailsResponse(booking,
+						seatsByBooking.getOrDefault(booking.getId(), List.of())))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Position of a booking in a user's newest-first list, sent to clients as
+	 * an opaque base64url token
+	 */
+	private record BookingCursor(LocalDateTime createdAt, Long id) {
+
+		static BookingCursor of(Booking booking) {
+			return new BookingCursor(booking.getCreatedAt(), booking.getId());
+		}
+
+		static BookingCursor decode(String cursor) {
+			try {
+				String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+				int sep = value.indexOf('|');
+				return new BookingCursor(LocalDateTime.parse(value.substring(0, sep)),
+						Long.parseLong(value.substring(sep + 1)));
+			} catch (RuntimeException e) {
+				throw new IllegalArgumentException("Invalid bookings cursor");
+			}
+		}
+
+		String encode() {
+			return Base64.getUrlEncoder().withoutPadding()
+					.encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
 	/**
 	 * Build BookingDetailsResponse from entity
 	 */
@@ -275,11 +474,15 @@ public class BookingService {
 	 * Orchestrates calls to ShowSeat, Catalogue, and Theatre services
 	 * to build a complete TicketResponse.
 	 * 
+	 * Not transactional: the two MySQL reads each return their connection
+	 * before any remote call. The show lookup comes first since it carries the
+	 * other IDs; movie, theatre and screen are then fetched concurrently, each
+	 * within its own deadline, so ticket latency is show + slowest of the three.
+	 * 
 	 * @param bookingId The booking ID
 	 * @return TicketResponse with all enriched data (partial data if some services
-	 *         unavailable)
+	 *         unavailable, listed in degraded)
 	 */
-	@Transactional(readOnly = true)
 	public TicketResponse getTicket(Long bookingId) {
 		log.info("Fetching enriched ticket for bookingId={}", bookingId);
 
@@ -294,51 +497,24 @@ public class BookingService {
 				.collect(Collectors.toList());
 
 		// 3. Fetch show details from ShowSeat service (required for IDs)
-		ShowResponseDto show = null;
-		try {
-			ApiResponseDto<ShowResponseDto> showResponse = showSeatFeignClient.getShowById(booking.getShowId());
-			show = showResponse.getData();
-		} catch (Exception e) {
-			log.error("Failed to fetch show details for showId={}: {}", booking.getShowId(), e.getMessage());
-		}
-
-		// 4. Fetch movie details from Catalogue service (graceful degradation)
-		String movieName = "Movie Unavailable";
-		if (show != null && show.getMovieId() != null) {
-			try {
-				MovieResponseDto movie = catalogueFeignClient.getMovieById(show.getMovieId());
-				if (movie != null && movie.getTitle() != null) {
-					movieName = movie.getTitle();
-				}
-			} catch (Exception e) {
-				log.warn("Catalogue service unavailable for movieId={}: {}", show.getMovieId(), e.getMessage());
-			}
-		}
-
-		// 5. Fetch theatre details from Theatre service (graceful degradation)
-		String theatreName = "Theatre Unavailable";
-		if (show != null && show.getTheatreId() != null) {
-			try {
-				TheatreResponseDto theatre = theatreFeignClient.getTheatreById(show.getTheatreId());
-				if (theatre != null && theatre.getName() != null) {
-					theatreName = theatre.getName();
-				}
-			} catch (Exception e) {
-				log.warn("Theatre service unavailable for theatreId={}: {}", show.getTheatreId(), e.getMessage());
-			}
-		}
-
-		// 6. Fetch screen details from Theatre service (graceful degradation)
-		String screenName = "Screen Unavailable";
-		if (show != null && show.getScreenId() != null) {
-			try {
-				ScreenResponseDto screen = theatreFeignClient.getScreenById(show.getScreenId());
-				if (screen != null && screen.getName() != null) {
-					screenName = screen.getName();
-				}
-			} catch (Exception e) {
-				log.warn("Theatre service unavailable for screenId={}: {}", show.getScreenId(), e.getMessage());
-			}
+		ShowResponseDto show = enrich("show", booking.getShowId(),
+				() -> referenceDataCache.show(booking.getShowId())).join();
+
+		// 4-6. Fetch movie, theatre and screen concurrently (graceful degradation)
+		CompletableFuture<String> movieName = show != null && show.getMovieId() != null
+				? enrich("movie", show.getMovieId(), () -> referenceDataCache.movieTitle(show.getMovieId()))
+				: CompletableFuture.completedFuture(null);
+		CompletableFuture<String> theatreName = show != null && show.getTheatreId() != null
+				? enrich("theatre", show.getTheatreId(), () -> referenceDataCache.theatreName(show.getTheatreId()))
+				: CompletableFuture.completedFuture(null);
+		CompletableFuture<String> screenName = show != null && show.getScreenId() != null
+				? enrich("screen", show.getScreenId(), () -> referenceDataCache.screenName(show.getScreenId()))
+				: CompletableFuture.completedFuture(null);
+		CompletableFuture.allOf(movieName, theatreName, screenName).join();
+
+		List<String> degraded = new ArrayList<>();
+		if (show == null) {
+			degraded.add("show");
 		}
 
 		// 7. Generate ticket ID and QR code
@@ -349,14 +525,11 @@ public class BookingService {
 				booking.getCreatedAt().toEpochSecond(java.time.ZoneOffset.UTC));
 
 		// 8. Build and return enriched TicketResponse (with partial data if needed)
-		log.info("Building ticket response for bookingId={} (showAvailable={})",
-				bookingId, show != null);
-
-		return TicketResponse.builder()
+		TicketResponse ticket = TicketResponse.builder()
 				.id(booking.getId())
-				.movieName(movieName)
-				.theatreName(theatreName)
-				.screenName(screenName)
+				.movieName(orUnavailable(movieName, "movie", "Movie Unavailable", degraded))
+				.theatreName(orUnavailable(theatreName, "theatre", "Theatre Unavailable", degraded))
+				.screenName(orUnavailable(screenName, "screen", "Screen Unavailable", degraded))
 				.showTime(show != null ? show.getStartTime() : null)
 				.seatNumbers(seatNumbers)
 				.totalAmount(booking.getTotalAmount())
@@ -367,6 +540,40 @@ public class BookingService {
 				.language(show != null ? show.getLanguage() : null)
 				.format(show != null ? show.getFormat() : null)
 				.bookedAt(booking.getCreatedAt())
+				.degraded(degraded)
 				.build();
+
+		log.info("Built ticket response for bookingId={} (degraded={})", bookingId, degraded);
+		return ticket;
+	}
+
+	/**
+	 * Waits for one cached lookup within the enrichment deadline. Failures,
+	 * timeouts and null results all complete with null; the deadline only
+	 * stops the wait, the call itself is still bounded by the Feign read
+	 * timeout. The cache shares its futures, so the deadline goes on a copy.
+	 */
+	private <T> CompletableFuture<T> enrich(String name, Object id, Supplier<CompletableFuture<T>> lookup) {
+		try {
+			return lookup.get().copy()
+					.orTimeout(enrichmentTimeoutMs, TimeUnit.MILLISECONDS)
+					.exceptionally(ex -> {
+						log.warn("Ticket enrichment failed for {} id={}: {}", name, id, ex.toString());
+						return null;
+					});
+		} catch (RejectedExecutionException ex) {
+			log.warn("Ticket enrichment skipped for {} id={}: executor saturated", name, id);
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	private static String orUnavailable(CompletableFuture<String> value, String name, String fallback,
+			List<String> degraded) {
+		String resolved = value.join();
+		if (resolved == null) {
+			degraded.add(name);
+			return fallback;
+		}
+		return resolved;
 	}
 }
\ No newline at end of file
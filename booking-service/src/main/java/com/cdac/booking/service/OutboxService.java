@@ -0,0 +1,62 @@
+package com.cdac.booking.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cdac.booking.entity.OutboxEvent;
+import com.cdac.booking.entity.OutboxEventType;
+import com.cdac.booking.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes events to the transactional outbox.
+ *
+ * Events are inserted in the caller's transaction, so they exist exactly when
+ * the booking change they belong to has committed. OutboxRelay delivers them
+ * afterwards, at least once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Record an event for delivery after the current transaction commits
+	 * Returns false if an event with the same dedup key was already recorded.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public boolean enqueue(OutboxEventType eventType, Long aggregateId, String dedupKey, Object payload) {
+		if (outboxEventRepository.existsByDedupKey(dedupKey)) {
+			log.info("Outbox event {} already recorded, skipping", dedupKey);
+			return false;
+		}
+
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Outbox payload is not serializable: " + dedupKey, e);
+		}
+
+		outboxEventRepository.save(OutboxEvent.builder()
+				.eventType(eventType)
+				.aggregateId(aggregateId)
+				.dedupKey(dedupKey)
+				.payload(json)
+				.nextAttemptAt(LocalDateTime.now())
+				.build());
+
+		log.debug("Outbox event {} recorded: type={}, aggregateId={}", dedupKey, eventType, aggregateId);
+		return true;
+	}
+}
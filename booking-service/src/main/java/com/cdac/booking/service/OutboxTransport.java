@@ -0,0 +1,19 @@
+package com.cdac.booking.service;
+
+import com.cdac.booking.entity.OutboxEvent;
+
+/**
+ * Delivers outbox events for OutboxRelay.
+ *
+ * The relay polls the database and hands each due event to the transport, so
+ * a broker-backed transport can replace the Feign one without touching the
+ * writers or the retry logic.
+ */
+public interface OutboxTransport {
+
+	/**
+	 * Deliver one event. Must throw if delivery is not confirmed, so the relay
+	 * retries it; the receiver must therefore tolerate duplicates.
+	 */
+	void send(OutboxEvent event) throws Exception;
+}
@@ -0,0 +1,106 @@
+package com.cdac.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cdac.booking.client.PaymentClient;
+import com.cdac.booking.client.PricingClient;
+import com.cdac.booking.client.ReferenceDataCache;
+import com.cdac.booking.client.SeatClient;
+import com.cdac.booking.client.SeatOutboxTransport;
+import com.cdac.booking.dto.seat.ConfirmSeatsRequestDto;
+import com.cdac.booking.dto.seat.UnlockSeatsRequestDto;
+import com.cdac.booking.entity.Booking;
+import com.cdac.booking.entity.BookingSeat;
+import com.cdac.booking.entity.BookingStatus;
+import com.cdac.booking.entity.OutboxEvent;
+import com.cdac.booking.entity.OutboxEventType;
+import com.cdac.booking.entity.PaymentStatus;
+import com.cdac.booking.repository.BookingRepository;
+import com.cdac.booking.repository.BookingSeatRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Seat events queued by the payment callback must reach showseat intact:
+ * serialized as OutboxService does, then read back by SeatOutboxTransport.
+ */
+class BookingServiceOutboxPayloadTest {
+
+	private static final Long BOOKING_ID = 42L;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final BookingRepository bookingRepository = mock(BookingRepository.class);
+	private final BookingSeatRepository bookingSeatRepository = mock(BookingSeatRepository.class);
+	private final OutboxService outboxService = mock(OutboxService.class);
+	private final SeatClient seatClient = mock(SeatClient.class);
+
+	private BookingService bookingService;
+
+	@BeforeEach
+	void setUp() {
+		bookingService = new BookingService(bookingRepository, bookingSeatRepository, mock(PaymentClient.class),
+				seatClient, mock(PricingClient.class), outboxService, mock(ReferenceDataCache.class),
+				mock(TransactionTemplate.class), new SimpleMeterRegistry().timer("test"));
+
+		when(bookingRepository.findById(BOOKING_ID)).thenReturn(Optional.of(Booking.builder().id(BOOKING_ID)
+				.userId(7L).showId("show-1").seatSessionId("session-1").totalAmount(BigDecimal.TEN)
+				.status(BookingStatus.INITIATED).paymentStatus(PaymentStatus.PENDING).build()));
+		when(bookingSeatRepository.findByBookingId(BOOKING_ID)).thenReturn(List.of(
+				BookingSeat.builder().bookingId(BOOKING_ID).seatNo("A1").build(),
+				BookingSeat.builder().bookingId(BOOKING_ID).seatNo("A2").build()));
+	}
+
+	@Test
+	void confirmPayloadCarriesBookingIdToShowseat() throws Exception {
+		bookingService.handlePaymentUpdate(BOOKING_ID, "SUCCESS", 99L, null);
+
+		send(OutboxEventType.SEATS_CONFIRM, queuedPayload(OutboxEventType.SEATS_CONFIRM));
+
+		ArgumentCaptor<ConfirmSeatsRequestDto> request = ArgumentCaptor.forClass(ConfirmSeatsRequestDto.class);
+		verify(seatClient).confirmSeats(request.capture());
+		assertThat(request.getValue().getBookingId()).isEqualTo(BOOKING_ID);
+		assertThat(request.getValue().getShowId()).isEqualTo("show-1");
+		assertThat(request.getValue().getUserId()).isEqualTo(7L);
+		assertThat(request.getValue().getSessionId()).isEqualTo("session-1");
+		assertThat(request.getValue().getSeatNumbers()).containsExactly("A1", "A2");
+	}
+
+	@Test
+	void releasePayloadRoundTrips() throws Exception {
+		bookingService.handlePaymentUpdate(BOOKING_ID, "FAILED", 99L, "declined");
+
+		send(OutboxEventType.SEATS_RELEASE, queuedPayload(OutboxEventType.SEATS_RELEASE));
+
+		ArgumentCaptor<UnlockSeatsRequestDto> request = ArgumentCaptor.forClass(UnlockSeatsRequestDto.class);
+		verify(seatClient).unlockSeats(request.capture());
+		assertThat(request.getValue().getSessionId()).isEqualTo("session-1");
+		assertThat(request.getValue().getSeatNumbers()).containsExactly("A1", "A2");
+	}
+
+	private String queuedPayload(OutboxEventType eventType) throws Exception {
+		ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+		verify(outboxService).enqueue(eq(eventType), eq(BOOKING_ID), anyString(), payload.capture());
+		return objectMapper.writeValueAsString(payload.getValue());
+	}
+
+	private void send(OutboxEventType eventType, String payload) throws Exception {
+		new SeatOutboxTransport(seatClient, objectMapper).send(OutboxEvent.builder().eventType(eventType)
+				.aggregateId(BOOKING_ID).dedupKey("test").payload(payload).build());
+	}
+}
@@ -0,0 +1,10 @@
+package com.quicktix.payment.entity;
+
+/**
+ * Kinds of events written to the outbox
+ */
+public enum OutboxEventType {
+    // Payload: PaymentStatusRequest for the booking service
+    PAYMENT_SUCCEEDED,
+    PAYMENT_FAILED
+}
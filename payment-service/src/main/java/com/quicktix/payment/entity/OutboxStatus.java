@@ -0,0 +1,11 @@
+package com.quicktix.payment.entity;
+
+/**
+ * Delivery state of an outbox event
+ */
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    // Gave up after the maximum number of attempts; needs manual replay
+    DEAD
+}
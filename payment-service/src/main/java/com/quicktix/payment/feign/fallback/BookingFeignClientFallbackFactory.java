@@ -1,5 +1,6 @@
 package com.quicktix.payment.feign.fallback;
 
+import com.quicktix.payment.exception.PaymentProcessingException;
 import com.quicktix.payment.feign.BookingFeignClient;
 import com.quicktix.payment.feign.dto.PaymentStatusRequest;
 import lombok.extern.slf4j.Slf4j;
@@ -10,8 +11,8 @@ import org.springframework.stereotype.Component;
  * Fallback factory for BookingFeignClient.
  * 
  * Handles failures when booking service is unavailable.
- * Payment status updates are critical and should be queued for retry
- * in production scenarios.
+ * Payment status updates are delivered from the outbox, so the fallback
+ * rethrows and the relay retries the update later.
  */
 @Slf4j
 @Component
@@ -29,10 +30,9 @@ public class BookingFeignClientFallbackFactory implements FallbackFactory<Bookin
                         "bookingId={}, status={}, error={}",
                         request.getBookingId(), request.getPaymentStatus(), cause.getMessage());
 
-                // In production, this should be sent to a message queue for retry
-                // For now, we log the error - the payment record itself is persisted
-                log.warn("Payment status notification queued for retry: bookingId={}",
-                        request.getBookingId());
+                // Fail the delivery so OutboxRelay keeps the event and retries it
+                throw new PaymentProcessingException(
+                        "Booking service unavailable: " + cause.getMessage(), cause);
             }
         };
     }
@@ -1,33 +1,32 @@
 package com.quicktix.payment.service.impl;
 
-import com.quicktix.payment.feign.BookingFeignClient;
+import com.quicktix.payment.entity.OutboxEventType;
 import com.quicktix.payment.feign.dto.PaymentStatusRequest;
 import com.quicktix.payment.service.BookingNotificationService;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
+import com.quicktix.payment.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 /**
- * Implementation of BookingNotificationService using OpenFeign.
+ * Implementation of BookingNotificationService using the transactional outbox.
  * 
- * Uses declarative Feign client for cleaner, service discovery-based
- * communication with the booking service.
+ * Notifications are recorded in the caller's transaction together with the
+ * payment update, and delivered to the booking service by OutboxRelay through
+ * BookingOutboxTransport. Webhook and verify requests therefore return
+ * without waiting on the booking service, and a notification that cannot be
+ * delivered yet is retried instead of lost.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BookingNotificationServiceImpl implements BookingNotificationService {
 
-    private final BookingFeignClient bookingFeignClient;
+    private final OutboxService outboxService;
 
     @Override
-    @CircuitBreaker(name = "bookingService", fallbackMethod = "notifySuccessFallback")
-    @Retry(name = "bookingService")
     public void notifyPaymentSuccess(Long bookingId, Long paymentId) {
-        log.info("Notifying booking service of payment success via Feign: bookingId={}, paymentId={}",
-                bookingId, paymentId);
+        log.info("Queueing payment success notification: bookingId={}, paymentId={}", bookingId, paymentId);
 
         PaymentStatusRequest request = PaymentStatusRequest.builder()
                 .bookingId(bookingId)
@@ -35,17 +34,13 @@ public class BookingNotificationServiceImpl implements BookingNotificationServic
                 .paymentId(paymentId)
                 .build();
 
-        bookingFeignClient.updatePaymentStatus(request);
-
-        log.info("Successfully notified booking service of payment success");
+        outboxService.enqueue(OutboxEventType.PAYMENT_SUCCEEDED, bookingId,
+                dedupKey(bookingId, paymentId, "SUCCESS"), request);
     }
 
     @Override
-    @CircuitBreaker(name = "bookingService", fallbackMethod = "notifyFailureFallback")
-    @Retry(name = "bookingService")
     public void notifyPaymentFailure(Long bookingId, Long paymentId, String reason) {
-        log.info("Notifying booking service of payment failure via Feign: bookingId={}, paymentId={}",
-                bookingId, paymentId);
+        log.info("Queueing payment failure notification: bookingId={}, paymentId={}", bookingId, paymentId);
 
         PaymentStatusRequest request = PaymentStatusRequest.builder()
                 .bookingId(bookingId)
@@ -54,21 +49,16 @@ public class BookingNotificationServiceImpl implements BookingNotificationServic
                 .failureReason(reason)
                 .build();
 
-        bookingFeignClient.updatePaymentStatus(request);
-
-        log.info("Successfully notified booking service of payment failure");
-    }
-
-    // Fallback methods for circuit breaker
-    private void notifySuccessFallback(Long bookingId, Long paymentId, Exception ex) {
-        log.error("Failed to notify booking service of success after retries. bookingId={}, error={}",
-                bookingId, ex.getMessage());
-        // In production, this should be sent to a message queue for retry
+        outboxService.enqueue(OutboxEventType.PAYMENT_FAILED, bookingId,
+                dedupKey(bookingId, paymentId, "FAILED"), request);
     }
 
-    private void notifyFailureFallback(Long bookingId, Long paymentId, String reason, Exception ex) {
-        log.error("Failed to notify booking service of failure after retries. bookingId={}, error={}",
-                bookingId, ex.getMessage());
-        // In production, this should be sent to a message queue for retry
+    /**
+     * One notification per payment and outcome; per booking when the payment is unknown
+     */
+    private static String dedupKey(Long bookingId, Long paymentId, String status) {
+        return paymentId != null
+                ? "payment:" + paymentId + ":" + status
+                : "booking:" + bookingId + ":" + status;
     }
 }
@@ -0,0 +1,40 @@
+package com.quicktix.payment.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quicktix.payment.entity.OutboxEvent;
+import com.quicktix.payment.feign.BookingFeignClient;
+import com.quicktix.payment.feign.dto.PaymentStatusRequest;
+import com.quicktix.payment.service.OutboxTransport;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Outbox transport that delivers payment status events to the booking
+ * service over its REST callback.
+ *
+ * Repeated deliveries are safe: the booking service ignores a status it has
+ * already applied. Retries are left to OutboxRelay's backoff, so there is no
+ * Resilience4j retry here; the circuit breaker fails fast while the booking
+ * service is down.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingOutboxTransport implements OutboxTransport {
+
+    private final BookingFeignClient bookingFeignClient;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @CircuitBreaker(name = "bookingService")
+    public void send(OutboxEvent event) throws Exception {
+        PaymentStatusRequest request = objectMapper.readValue(event.getPayload(), PaymentStatusRequest.class);
+
+        log.info("Notifying booking service via Feign: bookingId={}, status={}, paymentId={}",
+                request.getBookingId(), request.getPaymentStatus(), request.getPaymentId());
+
+        bookingFeignClient.updatePaymentStatus(request);
+    }
+}
@@ -286,13 +286,8 @@ public class PaymentServiceImpl implements PaymentService {
 
         log.info("Payment {} verified and marked as SUCCESS", payment.getId());
 
-        // 5. Notify booking service of successful payment
-        try {
-            bookingNotificationService.notifyPaymentSuccess(payment.getBookingId(), payment.getId());
-        } catch (Exception e) {
-            // Log but don't fail - webhook will retry if needed
-            log.error("Failed to notify booking service, will retry via webhook: {}", e.getMessage());
-        }
+        // 5. Notify booking service of successful payment (outbox, commits with the payment)
+        bookingNotificationService.notifyPaymentSuccess(payment.getBookingId(), payment.getId());
 
         return paymentMapper.toResponse(payment);
     }
@@ -317,11 +312,7 @@ public class PaymentServiceImpl implements PaymentService {
         if (payment == null) {
             log.warn("No pending payment found for bookingId={}, may already be processed", bookingId);
             // Still notify booking service in case seats need to be released
-            try {
-                bookingNotificationService.notifyPaymentFailure(bookingId, null, failureReason);
-            } catch (Exception e) {
-                log.error("Failed to notify booking service of failure: {}", e.getMessage());
-            }
+            bookingNotificationService.notifyPaymentFailure(bookingId, null, failureReason);
             return;
         }
 
@@ -339,10 +330,6 @@ public class PaymentServiceImpl implements PaymentService {
         log.info("Payment {} marked as FAILED", payment.getId());
 
         // Notify booking service to cancel booking and release seats
-        try {
-            bookingNotificationService.notifyPaymentFailure(payment.getBookingId(), payment.getId(), failureReason);
-        } catch (Exception e) {
-            log.error("Failed to notify booking service of failure, will retry via scheduled job: {}", e.getMessage());
-        }
+        bookingNotificationService.notifyPaymentFailure(payment.getBookingId(), payment.getId(), failureReason);
     }
 }
@@ -0,0 +1,17 @@
+-- Transactional outbox, see OutboxEvent. Runs on every startup (spring.sql.init), so it must stay idempotent.
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    event_type      VARCHAR(50)  NOT NULL,
+    aggregate_id    BIGINT       NOT NULL,
+    dedup_key       VARCHAR(150) NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6),
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_outbox_dedup_key (dedup_key),
+    KEY idx_outbox_status_next_attempt (status, next_attempt_at)
+);
@@ -0,0 +1,20 @@
+package com.quicktix.seat_load_simulator;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+
+/**
+ * Drives the showseat seat lock API with contending virtual users, then checks
+ * that no seat was sold twice. Exits with 1 when the oracle finds a violation.
+ *
+ * The booking-service database is optional, so no DataSource is configured
+ * unless simulator.booking-db.url is set.
+ */
+@SpringBootApplication(exclude = DataSourceAutoConfiguration.class)
+public class SeatLoadSimulatorApplication {
+
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(SpringApplication.run(SeatLoadSimulatorApplication.class, args)));
+    }
+}
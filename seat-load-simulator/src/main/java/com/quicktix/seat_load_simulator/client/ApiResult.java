@@ -0,0 +1,26 @@
+package com.quicktix.seat_load_simulator.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * One HTTP exchange. status is -1 when no response arrived (timeout, reset),
+ * in which case the outcome on the server is unknown.
+ */
+public record ApiResult(int status, long latencyNanos, JsonNode body) {
+
+    public boolean ok() {
+        return status >= 200 && status < 300;
+    }
+
+    public boolean conflict() {
+        return status == 409 || status == 403;
+    }
+
+    public boolean unknown() {
+        return status < 0 || status >= 500;
+    }
+
+    public JsonNode data() {
+        return body != null ? body.path("data") : null;
+    }
+}
@@ -0,0 +1,144 @@
+package com.quicktix.seat_load_simulator.client;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quicktix.seat_load_simulator.config.SimulatorConfig;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Non-blocking client of the showseat seat lock API, so thousands of virtual
+ * users can be in flight on a handful of threads.
+ */
+@Slf4j
+@Component
+public class SeatApiClient {
+
+    private final SimulatorConfig config;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final String authorization;
+
+    public SeatApiClient(SimulatorConfig config, ObjectMapper objectMapper) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(config.getRequestTimeoutMs()))
+                .build();
+        this.authorization = "Bearer " + token(config);
+    }
+
+    public CompletableFuture<ApiResult> lock(Long userId, String sessionId, List<String> seatNumbers) {
+        return post("/seats/lock", body(userId, sessionId, seatNumbers, null));
+    }
+
+    public CompletableFuture<ApiResult> confirm(Long userId, String sessionId, Long bookingId,
+            List<String> seatNumbers) {
+        return post("/seats/confirm", body(userId, sessionId, seatNumbers, bookingId));
+    }
+
+    public CompletableFuture<ApiResult> unlock(Long userId, String sessionId, List<String> seatNumbers) {
+        return post("/seats/unlock", body(userId, sessionId, seatNumbers, null));
+    }
+
+    /** Drops every lock of the show, as if all of them hit their TTL at once */
+    public CompletableFuture<ApiResult> expireLocks() {
+        return send(request("/seats/expire/" + config.getShowId()).DELETE().build());
+    }
+
+    public ApiResult getShow() {
+        return send(request("/api/shows/" + config.getShowId()).GET().build()).join();
+    }
+
+    private Map<String, Object> body(Long userId, String sessionId, List<String> seatNumbers, Long bookingId) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("showId", config.getShowId());
+        body.put("userId", userId);
+        body.put("sessionId", sessionId);
+        if (bookingId != null) {
+            body.put("bookingId", bookingId);
+        }
+        body.put("seatNumbers", seatNumbers);
+        return body;
+    }
+
+    private CompletableFuture<ApiResult> post(String path, Map<String, Object> body) {
+        try {
+            return send(request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize request body", e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(config.getShowseatUrl() + path))
+                .timeout(Duration.ofMillis(config.getRequestTimeoutMs()))
+                .header("Authorization", authorization);
+    }
+
+    private CompletableFuture<ApiResult> send(HttpRequest request) {
+        long start = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    long latency = System.nanoTime() - start;
+                    if (error != null) {
+                        log.debug("{} {} failed: {}", request.method(), request.uri(), error.toString());
+                        return new ApiResult(-1, latency, null);
+                    }
+                    return new ApiResult(response.statusCode(), latency, parse(response.body()));
+                });
+    }
+
+    private JsonNode parse(byte[] body) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String token(SimulatorConfig config) {
+        if (config.getAuthToken() != null && !config.getAuthToken().isBlank()) {
+            return config.getAuthToken();
+        }
+        if (config.getJwtSecret() == null || config.getJwtSecret().isBlank()) {
+            throw new IllegalStateException("Set simulator.auth-token or simulator.jwt-secret");
+        }
+
+        SecretKey key = Keys.hmacShaKeyFor(config.getJwtSecret().getBytes(StandardCharsets.UTF_8));
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject("seat-load-simulator")
+                .claim("roles", List.of("USER", "ADMIN"))
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + Duration.ofHours(12).toMillis()))
+                .signWith(key)
+                .compact();
+    }
+}
@@ -0,0 +1,49 @@
+package com.quicktix.seat_load_simulator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "simulator")
+public class SimulatorConfig {
+
+    private String showseatUrl = "http://localhost:8086";
+    private String showId;
+    private String jwtSecret; // mints a token when no auth token is given
+    private String authToken;
+    private long requestTimeoutMs = 10000;
+
+    private Load load = new Load();
+    private Chaos chaos = new Chaos();
+    private BookingDb bookingDb = new BookingDb();
+
+    @Data
+    public static class Load {
+        private int virtualUsers = 2000;
+        private int concurrency = 500; // journeys in flight at once
+        private int minSeats = 1;
+        private int maxSeats = 4;
+        private double hotSeatFraction = 0.25; // users pick adjacent seats from this middle slice of the show
+        private int lockAttempts = 3; // a user picks new seats after each conflict
+        private double abandonRate = 0.1; // unlock instead of paying
+        private long paymentDelayMinMs = 200;
+        private long paymentDelayMaxMs = 2000;
+    }
+
+    @Data
+    public static class Chaos {
+        private double slowPaymentRate = 0.05; // pay only after the lock TTL has run out
+        private long expireIntervalMs = 0; // expire every lock of the show on this interval; 0 = off
+        private long settleMs = 2000; // wait before the final oracle read
+    }
+
+    @Data
+    public static class BookingDb {
+        private String url; // booking-service MySQL; rows are checked only when set
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,67 @@
+package com.quicktix.seat_load_simulator.oracle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.quicktix.seat_load_simulator.simulation.BookingLedger;
+
+/**
+ * Checks that the seat bitmap, the Show counter, booking-service rows and the
+ * confirms the virtual users received all tell the same story. Every
+ * disagreement is reported; an empty list means the run was consistent.
+ */
+@Component
+public class ConsistencyOracle {
+
+    public List<String> check(ShowSnapshot before, ShowSnapshot after, BookingLedger ledger) {
+        List<String> violations = new ArrayList<>(ledger.doubleSales());
+
+        Map<String, Long> sold = ledger.soldSeats();
+        Set<String> unknown = ledger.unknownSeats();
+        Map<String, List<Long>> rows = after.bookingRows() != null ? after.bookingRows() : Map.of();
+
+        sold.forEach((seat, bookingId) -> {
+            if (before.bitmapBooked().contains(seat)) {
+                violations.add(seat + " confirmed to booking " + bookingId + " but was booked before the run");
+            } else if (!after.bitmapBooked().contains(seat)) {
+                violations.add(seat + " confirmed to booking " + bookingId + " but is not booked in SEAT_AVAIL");
+            }
+            if (rows.containsKey(seat)) {
+                violations.add(seat + " confirmed to booking " + bookingId
+                        + " and to booking-service bookings " + rows.get(seat));
+            }
+        });
+
+        for (String seat : after.bitmapBooked()) {
+            if (!before.bitmapBooked().contains(seat) && !sold.containsKey(seat)
+                    && !unknown.contains(seat) && !rows.containsKey(seat)) {
+                violations.add(seat + " is booked in SEAT_AVAIL but no booking was confirmed for it");
+            }
+        }
+        for (String seat : before.bitmapBooked()) {
+            if (!after.bitmapBooked().contains(seat)) {
+                violations.add(seat + " was booked before the run but is available now");
+            }
+        }
+
+        if (after.showBookedSeats() != null && after.showBookedSeats() != after.bitmapBooked().size()) {
+            violations.add("Show.bookedSeats is " + after.showBookedSeats() + " but SEAT_AVAIL has "
+                    + after.bitmapBooked().size() + " booked seats");
+        }
+
+        rows.forEach((seat, bookingIds) -> {
+            if (bookingIds.size() > 1) {
+                violations.add(seat + " belongs to CONFIRMED bookings " + bookingIds + " in booking-service");
+            }
+            if (!after.bitmapBooked().contains(seat)) {
+                violations.add(seat + " is CONFIRMED in booking-service but not booked in SEAT_AVAIL");
+            }
+        });
+
+        return violations;
+    }
+}
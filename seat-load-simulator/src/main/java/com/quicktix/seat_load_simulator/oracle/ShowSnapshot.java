@@ -0,0 +1,20 @@
+package com.quicktix.seat_load_simulator.oracle;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Booked state of a show as each store records it.
+ *
+ * @param seats          seat numbers in index order (SEAT_MAP:{showId})
+ * @param bitmapBooked   seats whose bit is set in SEAT_AVAIL:{showId}
+ * @param showBookedSeats Show.bookedSeats from Mongo, null if the show could not be read
+ * @param bookingRows    seat -> CONFIRMED booking ids in booking-service, null when not checked
+ */
+public record ShowSnapshot(
+        List<String> seats,
+        Set<String> bitmapBooked,
+        Integer showBookedSeats,
+        Map<String, List<Long>> bookingRows) {
+}
@@ -0,0 +1,126 @@
+package com.quicktix.seat_load_simulator.oracle;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Component;
+
+import com.quicktix.seat_load_simulator.client.ApiResult;
+import com.quicktix.seat_load_simulator.client.SeatApiClient;
+import com.quicktix.seat_load_simulator.config.SimulatorConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads a {@link ShowSnapshot} straight from each store: the Redis bitmap and
+ * seat map (bypassing showseat's caches), the Show document through the
+ * showseat API, and booking-service rows over JDBC when configured.
+ */
+@Slf4j
+@Component
+public class ShowStateReader {
+
+    private static final String SEAT_AVAILABILITY_PREFIX = "SEAT_AVAIL:";
+    private static final String SEAT_MAPPING_PREFIX = "SEAT_MAP:";
+
+    private static final String CONFIRMED_SEATS_SQL = """
+            SELECT bs.seat_no, b.id
+            FROM booking_seats bs
+            JOIN bookings b ON b.id = bs.booking_id
+            WHERE b.show_id = ? AND b.status = 'CONFIRMED'
+            """;
+
+    private final SimulatorConfig config;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SeatApiClient seatApiClient;
+    private final JdbcTemplate bookingJdbc;
+
+    public ShowStateReader(SimulatorConfig config, StringRedisTemplate stringRedisTemplate,
+            SeatApiClient seatApiClient) {
+        this.config = config;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.seatApiClient = seatApiClient;
+        this.bookingJdbc = bookingJdbc(config.getBookingDb());
+    }
+
+    public ShowSnapshot read() {
+        String showId = config.getShowId();
+        List<String> seats = seatsInIndexOrder(showId);
+
+        byte[] bitmap = stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands()
+                .get((SEAT_AVAILABILITY_PREFIX + showId).getBytes(StandardCharsets.UTF_8)));
+        Set<String> booked = new HashSet<>();
+        for (int i = 0; i < seats.size(); i++) {
+            if (isBitSet(bitmap, i)) {
+                booked.add(seats.get(i));
+            }
+        }
+
+        return new ShowSnapshot(seats, booked, showBookedSeats(), bookingRows(showId));
+    }
+
+    /**
+     * SEAT_MAP values are written through showseat's JSON serializer, so each
+     * index is a quoted string.
+     */
+    private List<String> seatsInIndexOrder(String showId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(SEAT_MAPPING_PREFIX + showId);
+        if (entries.isEmpty()) {
+            throw new IllegalStateException("No seat map for show " + showId + "; is it initialized?");
+        }
+
+        String[] seats = new String[entries.size()];
+        entries.forEach((seat, index) -> seats[Integer.parseInt(index.toString().replace("\"", ""))] = seat.toString());
+        return Arrays.asList(seats);
+    }
+
+    private Integer showBookedSeats() {
+        ApiResult show = seatApiClient.getShow();
+        if (!show.ok() || show.data() == null || !show.data().has("bookedSeats")) {
+            log.warn("Could not read show {} (HTTP {})", config.getShowId(), show.status());
+            return null;
+        }
+        return show.data().path("bookedSeats").asInt();
+    }
+
+    private Map<String, List<Long>> bookingRows(String showId) {
+        if (bookingJdbc == null) {
+            return null;
+        }
+
+        Map<String, List<Long>> rows = new HashMap<>();
+        bookingJdbc.query(CONFIRMED_SEATS_SQL, rs -> {
+            rows.computeIfAbsent(rs.getString(1), seat -> new ArrayList<>()).add(rs.getLong(2));
+        }, showId);
+        return rows;
+    }
+
+    private static JdbcTemplate bookingJdbc(SimulatorConfig.BookingDb bookingDb) {
+        if (bookingDb.getUrl() == null || bookingDb.getUrl().isBlank()) {
+            return null;
+        }
+        return new JdbcTemplate(new DriverManagerDataSource(
+                bookingDb.getUrl(), bookingDb.getUsername(), bookingDb.getPassword()));
+    }
+
+    /**
+     * Redis bitmaps are big-endian within each byte: offset 0 is the MSB of byte 0.
+     */
+    private static boolean isBitSet(byte[] bitmap, int offset) {
+        int byteIndex = offset >>> 3;
+        if (bitmap == null || byteIndex >= bitmap.length) {
+            return false;
+        }
+        return (bitmap[byteIndex] & (0x80 >>> (offset & 7))) != 0;
+    }
+}
@@ -0,0 +1,49 @@
+package com.quicktix.seat_load_simulator.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * What the virtual users were told: which booking got each seat. A seat
+ * confirmed to two bookings is a double sale, whatever Redis says afterwards.
+ *
+ * Confirms that got no answer (timeout, 5xx) may or may not have been
+ * applied, so their seats are tracked apart and excused by the oracle.
+ */
+public class BookingLedger {
+
+    private final Map<String, Long> soldSeats = new ConcurrentHashMap<>();
+    private final Set<String> unknownSeats = ConcurrentHashMap.newKeySet();
+    private final List<String> doubleSales = Collections.synchronizedList(new ArrayList<>());
+
+    public void confirmed(Long bookingId, List<String> seatNumbers) {
+        for (String seat : seatNumbers) {
+            Long previous = soldSeats.putIfAbsent(seat, bookingId);
+            if (previous != null) {
+                doubleSales.add(seat + " confirmed to bookings " + previous + " and " + bookingId);
+            }
+        }
+    }
+
+    public void unknown(List<String> seatNumbers) {
+        unknownSeats.addAll(seatNumbers);
+    }
+
+    public Map<String, Long> soldSeats() {
+        return Map.copyOf(soldSeats);
+    }
+
+    public Set<String> unknownSeats() {
+        return Set.copyOf(unknownSeats);
+    }
+
+    public List<String> doubleSales() {
+        synchronized (doubleSales) {
+            return List.copyOf(doubleSales);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.quicktix.seat_load_simulator.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Every latency of one operation, kept exactly: a run is at most a few
+ * hundred thousand requests, so sorting them once at the end is cheap and
+ * p999 needs no bucketing error.
+ */
+public class LatencyStats {
+
+    private long[] latencies = new long[1024];
+    private int count;
+
+    public synchronized void record(long latencyNanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    public synchronized Summary summarize() {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Summary(count,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.99),
+                percentile(sorted, 0.999),
+                count > 0 ? sorted[count - 1] / 1_000_000.0 : 0);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(rank, 0)] / 1_000_000.0;
+    }
+
+    /** Latencies in milliseconds */
+    public record Summary(int count, double p50, double p99, double p999, double max) {
+    }
+}
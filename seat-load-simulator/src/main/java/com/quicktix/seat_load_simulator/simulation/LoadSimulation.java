@@ -0,0 +1,108 @@
+package com.quicktix.seat_load_simulator.simulation;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+import com.quicktix.seat_load_simulator.client.SeatApiClient;
+import com.quicktix.seat_load_simulator.config.SimulatorConfig;
+import com.quicktix.seat_load_simulator.oracle.ConsistencyOracle;
+import com.quicktix.seat_load_simulator.oracle.ShowSnapshot;
+import com.quicktix.seat_load_simulator.oracle.ShowStateReader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the virtual users against the show, at most load.concurrency at a time,
+ * while the chaos schedule expires locks, then hands both snapshots and the
+ * ledger to the oracle.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadSimulation implements CommandLineRunner, ExitCodeGenerator {
+
+    private static final long USER_ID_BASE = 9_000_000_000L;
+
+    private final SimulatorConfig config;
+    private final SeatApiClient seatApiClient;
+    private final ShowStateReader showStateReader;
+    private final ConsistencyOracle consistencyOracle;
+
+    private int exitCode;
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (config.getShowId() == null || config.getShowId().isBlank()) {
+            throw new IllegalStateException("simulator.show-id is required");
+        }
+        SimulatorConfig.Load load = config.getLoad();
+
+        ShowSnapshot before = showStateReader.read();
+        List<String> seats = before.seats();
+        int hotSize = Math.max(load.getMaxSeats(), (int) Math.ceil(seats.size() * load.getHotSeatFraction()));
+        hotSize = Math.min(hotSize, seats.size());
+        int hotStart = (seats.size() - hotSize) / 2;
+
+        log.info("Show {}: {} seats, {} booked before the run, {} users contending on seats {}..{}",
+                config.getShowId(), seats.size(), before.bitmapBooked().size(), load.getVirtualUsers(),
+                seats.get(hotStart), seats.get(hotStart + hotSize - 1));
+
+        SimulationStats stats = new SimulationStats();
+        BookingLedger ledger = new BookingLedger();
+        AtomicLong bookingIds = new AtomicLong(System.currentTimeMillis() * 1000);
+        AtomicLong expireEpoch = new AtomicLong();
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+
+        ScheduledExecutorService chaos = Executors.newSingleThreadScheduledExecutor();
+        long interval = config.getChaos().getExpireIntervalMs();
+        if (interval > 0) {
+            chaos.scheduleAtFixedRate(() -> {
+                expireEpoch.incrementAndGet();
+                stats.getExpireStorms().incrementAndGet();
+                seatApiClient.expireLocks().join();
+            }, interval, interval, TimeUnit.MILLISECONDS);
+        }
+
+        Semaphore inFlight = new Semaphore(load.getConcurrency());
+        long started = System.nanoTime();
+        for (int u = 0; u < load.getVirtualUsers(); u++) {
+            inFlight.acquire();
+            new VirtualUser(USER_ID_BASE + u, "sim-" + runId + "-" + u, seats, hotStart, hotSize,
+                    load, config.getChaos(), seatApiClient, stats, ledger, bookingIds, expireEpoch)
+                    .run()
+                    .whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            log.warn("Virtual user failed: {}", error.toString());
+                        }
+                        inFlight.release();
+                    });
+        }
+        inFlight.acquire(load.getConcurrency());
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        chaos.shutdownNow();
+        chaos.awaitTermination(config.getRequestTimeoutMs(), TimeUnit.MILLISECONDS);
+        Thread.sleep(config.getChaos().getSettleMs());
+
+        ShowSnapshot after = showStateReader.read();
+        List<String> violations = consistencyOracle.check(before, after, ledger);
+
+        new SimulationReport(stats, ledger, after, violations, elapsedSeconds).print();
+        exitCode = violations.isEmpty() ? 0 : 1;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
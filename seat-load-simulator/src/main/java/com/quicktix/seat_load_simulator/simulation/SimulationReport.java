@@ -0,0 +1,68 @@
+package com.quicktix.seat_load_simulator.simulation;
+
+import java.util.List;
+
+import com.quicktix.seat_load_simulator.oracle.ShowSnapshot;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Plain-text summary of a run, printed to stdout so it can be piped or diffed.
+ */
+@RequiredArgsConstructor
+class SimulationReport {
+
+    private static final int MAX_LISTED_VIOLATIONS = 50;
+
+    private final SimulationStats stats;
+    private final BookingLedger ledger;
+    private final ShowSnapshot after;
+    private final List<String> violations;
+    private final double elapsedSeconds;
+
+    void print() {
+        StringBuilder out = new StringBuilder("\n=== Seat load simulation ===\n");
+
+        long lockAttempts = stats.getLockAttempts().get();
+        out.append(String.format("Duration            %.1f s%n", elapsedSeconds));
+        out.append(String.format("Journeys            %d (%.1f/s)%n",
+                stats.getJourneys().get(), stats.getJourneys().get() / elapsedSeconds));
+        out.append(String.format("Requests            %d (%.1f/s), %d unanswered%n",
+                stats.getRequests().get(), stats.getRequests().get() / elapsedSeconds, stats.getUnanswered().get()));
+        out.append(String.format("Lock conflicts      %d of %d (%.1f%%), %d users gave up, %d errors%n",
+                stats.getLockConflicts().get(), lockAttempts,
+                lockAttempts > 0 ? 100.0 * stats.getLockConflicts().get() / lockAttempts : 0,
+                stats.getGaveUp().get(), stats.getLockErrors().get()));
+        out.append(String.format("Bookings            %d confirmed (%.1f/s), %d rejected, %d unknown, %d abandoned%n",
+                stats.getConfirmed().get(), stats.getConfirmed().get() / elapsedSeconds,
+                stats.getConfirmRejected().get(), stats.getConfirmUnknown().get(), stats.getAbandoned().get()));
+        out.append(String.format("Expired mid-payment %d confirms, %d still succeeded; %d expire storms%n",
+                stats.getExpiredBeforeConfirm().get(), stats.getConfirmedAfterExpiry().get(),
+                stats.getExpireStorms().get()));
+        out.append(String.format("Seats sold          %d by this run, %d booked in total, Show.bookedSeats=%s%n",
+                ledger.soldSeats().size(), after.bitmapBooked().size(), after.showBookedSeats()));
+
+        out.append(String.format("%nLatency (ms)   %8s %8s %8s %8s %8s%n", "count", "p50", "p99", "p999", "max"));
+        append(out, "lock", stats.getLockLatency());
+        append(out, "confirm", stats.getConfirmLatency());
+        append(out, "unlock", stats.getUnlockLatency());
+
+        if (violations.isEmpty()) {
+            out.append(String.format("%nOracle: PASS, bitmap, Show counter%s and confirmed bookings agree%n",
+                    after.bookingRows() != null ? ", booking-service rows" : ""));
+        } else {
+            out.append(String.format("%nOracle: FAIL, %d violations%n", violations.size()));
+            violations.stream().limit(MAX_LISTED_VIOLATIONS).forEach(v -> out.append("  - ").append(v).append('\n'));
+            if (violations.size() > MAX_LISTED_VIOLATIONS) {
+                out.append("  ... ").append(violations.size() - MAX_LISTED_VIOLATIONS).append(" more\n");
+            }
+        }
+
+        System.out.print(out);
+    }
+
+    private static void append(StringBuilder out, String name, LatencyStats latency) {
+        LatencyStats.Summary s = latency.summarize();
+        out.append(String.format("%-14s %8d %8.1f %8.1f %8.1f %8.1f%n", name, s.count(), s.p50(), s.p99(), s.p999(), s.max()));
+    }
+}
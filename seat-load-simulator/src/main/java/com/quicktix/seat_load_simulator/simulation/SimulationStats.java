@@ -0,0 +1,48 @@
+package com.quicktix.seat_load_simulator.simulation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.quicktix.seat_load_simulator.client.ApiResult;
+
+import lombok.Getter;
+
+/**
+ * Counters and latencies of one run, shared by every virtual user.
+ */
+@Getter
+public class SimulationStats {
+
+    private final LatencyStats lockLatency = new LatencyStats();
+    private final LatencyStats confirmLatency = new LatencyStats();
+    private final LatencyStats unlockLatency = new LatencyStats();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong unanswered = new AtomicLong();
+
+    private final AtomicLong lockAttempts = new AtomicLong();
+    private final AtomicLong lockConflicts = new AtomicLong();
+    private final AtomicLong lockErrors = new AtomicLong();
+
+    private final AtomicLong journeys = new AtomicLong();
+    private final AtomicLong gaveUp = new AtomicLong();
+    private final AtomicLong abandoned = new AtomicLong();
+
+    private final AtomicLong confirmed = new AtomicLong();
+    private final AtomicLong confirmRejected = new AtomicLong();
+    private final AtomicLong confirmUnknown = new AtomicLong();
+
+    /** Confirms sent after the user's lock ran out or was expired */
+    private final AtomicLong expiredBeforeConfirm = new AtomicLong();
+    private final AtomicLong confirmedAfterExpiry = new AtomicLong();
+
+    private final AtomicLong expireStorms = new AtomicLong();
+
+    void recorded(LatencyStats latency, ApiResult result) {
+        requests.incrementAndGet();
+        if (result.status() < 0) {
+            unanswered.incrementAndGet();
+        } else {
+            latency.record(result.latencyNanos());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.quicktix.seat_load_simulator.simulation;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.quicktix.seat_load_simulator.client.SeatApiClient;
+import com.quicktix.seat_load_simulator.config.SimulatorConfig;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * One user's journey, as booking-service would drive it: lock adjacent seats
+ * (picking again after a conflict), then either abandon and unlock or pay and
+ * confirm. A failed confirm unlocks whatever the user still holds.
+ *
+ * Slow payers confirm only after their lock TTL has passed, which exercises
+ * the relaxed validation of confirmSeats: the seats must still go to them if
+ * nobody else took them, and must not if someone did.
+ */
+@RequiredArgsConstructor
+class VirtualUser {
+
+    private final long userId;
+    private final String sessionId;
+    private final List<String> seats;
+    private final int hotStart;
+    private final int hotSize;
+    private final SimulatorConfig.Load load;
+    private final SimulatorConfig.Chaos chaos;
+    private final SeatApiClient client;
+    private final SimulationStats stats;
+    private final BookingLedger ledger;
+    private final AtomicLong bookingIds;
+    private final AtomicLong expireEpoch;
+
+    CompletableFuture<Void> run() {
+        return lock(1).whenComplete((ignored, error) -> stats.getJourneys().incrementAndGet());
+    }
+
+    private CompletableFuture<Void> lock(int attempt) {
+        List<String> picked = pickSeats();
+        stats.getLockAttempts().incrementAndGet();
+
+        return client.lock(userId, sessionId, picked).thenCompose(result -> {
+            stats.recorded(stats.getLockLatency(), result);
+            if (result.ok()) {
+                return afterLock(picked, lockTtlMs(result.data()));
+            }
+            if (result.conflict()) {
+                stats.getLockConflicts().incrementAndGet();
+                if (attempt < load.getLockAttempts()) {
+                    return lock(attempt + 1);
+                }
+                stats.getGaveUp().incrementAndGet();
+                return done();
+            }
+            stats.getLockErrors().incrementAndGet();
+            if (result.unknown()) {
+                // The lock may have been taken; release it like booking-service would
+                return unlock(picked);
+            }
+            return done();
+        });
+    }
+
+    private CompletableFuture<Void> afterLock(List<String> picked, long lockTtlMs) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < load.getAbandonRate()) {
+            stats.getAbandoned().incrementAndGet();
+            return unlock(picked);
+        }
+
+        boolean slow = random.nextDouble() < chaos.getSlowPaymentRate();
+        long delay = slow
+                ? lockTtlMs + 1000
+                : random.nextLong(load.getPaymentDelayMinMs(), load.getPaymentDelayMaxMs() + 1);
+        long epoch = expireEpoch.get();
+
+        return CompletableFuture.supplyAsync(() -> null, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                .thenCompose(ignored -> confirm(picked, slow || expireEpoch.get() != epoch));
+    }
+
+    private CompletableFuture<Void> confirm(List<String> picked, boolean expired) {
+        long bookingId = bookingIds.incrementAndGet();
+        if (expired) {
+            stats.getExpiredBeforeConfirm().incrementAndGet();
+        }
+
+        return client.confirm(userId, sessionId, bookingId, picked).thenCompose(result -> {
+            stats.recorded(stats.getConfirmLatency(), result);
+            if (result.ok()) {
+                ledger.confirmed(bookingId, picked);
+                stats.getConfirmed().incrementAndGet();
+                if (expired) {
+                    stats.getConfirmedAfterExpiry().incrementAndGet();
+                }
+                return done();
+            }
+            if (result.unknown()) {
+                ledger.unknown(picked);
+                stats.getConfirmUnknown().incrementAndGet();
+                return done();
+            }
+            stats.getConfirmRejected().incrementAndGet();
+            return unlock(picked);
+        });
+    }
+
+    private CompletableFuture<Void> unlock(List<String> picked) {
+        return client.unlock(userId, sessionId, picked).thenAccept(result -> stats.recorded(stats.getUnlockLatency(), result));
+    }
+
+    private List<String> pickSeats() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int count = Math.min(random.nextInt(load.getMinSeats(), load.getMaxSeats() + 1), hotSize);
+        int start = hotStart + random.nextInt(hotSize - count + 1);
+        return List.copyOf(seats.subList(start, start + count));
+    }
+
+    private static long lockTtlMs(JsonNode lock) {
+        return lock != null ? lock.path("lockDurationSeconds").asLong(300) * 1000 : 300_000;
+    }
+
+    private static CompletableFuture<Void> done() {
+        return CompletableFuture.completedFuture(null);
+    }
+}
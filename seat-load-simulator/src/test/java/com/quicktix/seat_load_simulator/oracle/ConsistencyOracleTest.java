@@ -0,0 +1,60 @@
+package com.quicktix.seat_load_simulator.oracle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.quicktix.seat_load_simulator.simulation.BookingLedger;
+
+class ConsistencyOracleTest {
+
+    private static final List<String> SEATS = List.of("A1", "A2", "A3", "A4");
+
+    private final ConsistencyOracle oracle = new ConsistencyOracle();
+
+    @Test
+    void agreeingStoresPass() {
+        BookingLedger ledger = new BookingLedger();
+        ledger.confirmed(1L, List.of("A2", "A3"));
+
+        ShowSnapshot before = new ShowSnapshot(SEATS, Set.of("A1"), 1, Map.of());
+        ShowSnapshot after = new ShowSnapshot(SEATS, Set.of("A1", "A2", "A3"), 3, Map.of("A1", List.of(7L)));
+
+        assertThat(oracle.check(before, after, ledger)).isEmpty();
+    }
+
+    @Test
+    void seatConfirmedTwiceIsADoubleSale() {
+        BookingLedger ledger = new BookingLedger();
+        ledger.confirmed(1L, List.of("A2"));
+        ledger.confirmed(2L, List.of("A2", "A3"));
+
+        ShowSnapshot before = new ShowSnapshot(SEATS, Set.of(), 0, null);
+        ShowSnapshot after = new ShowSnapshot(SEATS, Set.of("A2", "A3"), 2, null);
+
+        assertThat(oracle.check(before, after, ledger))
+                .containsExactly("A2 confirmed to bookings 1 and 2");
+    }
+
+    @Test
+    void storesThatDisagreeAreReported() {
+        BookingLedger ledger = new BookingLedger();
+        ledger.confirmed(1L, List.of("A1", "A2"));
+        ledger.unknown(List.of("A4"));
+
+        ShowSnapshot before = new ShowSnapshot(SEATS, Set.of("A1"), 1, null);
+        ShowSnapshot after = new ShowSnapshot(SEATS, Set.of("A1", "A3", "A4"), 2,
+                Map.of("A4", List.of(5L, 6L)));
+
+        assertThat(oracle.check(before, after, ledger)).containsExactlyInAnyOrder(
+                "A1 confirmed to booking 1 but was booked before the run",
+                "A2 confirmed to booking 1 but is not booked in SEAT_AVAIL",
+                "A3 is booked in SEAT_AVAIL but no booking was confirmed for it",
+                "Show.bookedSeats is 2 but SEAT_AVAIL has 3 booked seats",
+                "A4 belongs to CONFIRMED bookings [5, 6] in booking-service");
+    }
+}
@@ -0,0 +1,85 @@
+package com.quicktix.showseat_service.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.quicktix.showseat_service.config.AppConfig;
+import com.quicktix.showseat_service.config.RedisConfig;
+import com.quicktix.showseat_service.enums.SeatLockStoreMode;
+import com.quicktix.showseat_service.metrics.SeatContentionTracker;
+import com.quicktix.showseat_service.metrics.SeatLockMetrics;
+import com.quicktix.showseat_service.util.HashSeatLockStore;
+import com.quicktix.showseat_service.util.KeyPerSeatLockStore;
+import com.quicktix.showseat_service.util.RedisBitmapUtil;
+import com.quicktix.showseat_service.util.SeatLockStore;
+import com.quicktix.showseat_service.util.SeatMappingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import redis.embedded.RedisServer;
+
+/**
+ * The seat engine wired as in the service (same connection factory, templates,
+ * lock store and metrics), against a redis-server started on a free port.
+ * Persistence is off so snapshots do not show up in the measurements.
+ */
+final class EmbeddedSeatEngine implements AutoCloseable {
+
+    private final RedisServer redisServer;
+    private final LettuceConnectionFactory connectionFactory;
+    private final RedisBitmapUtil redisBitmapUtil;
+
+    EmbeddedSeatEngine(SeatLockStoreMode storeMode) throws IOException {
+        int port = freePort();
+        this.redisServer = RedisServer.newRedisServer()
+                .port(port)
+                .setting("bind 127.0.0.1")
+                .setting("save \"\"")
+                .setting("appendonly no")
+                .build();
+        redisServer.start();
+
+        RedisConfig redisConfig = new RedisConfig();
+        ReflectionTestUtils.setField(redisConfig, "redisHost", "127.0.0.1");
+        ReflectionTestUtils.setField(redisConfig, "redisPort", port);
+        this.connectionFactory = redisConfig.redisConnectionFactory();
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        StringRedisTemplate stringRedisTemplate = redisConfig.stringRedisTemplate(connectionFactory);
+        AppConfig appConfig = new AppConfig();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        SeatLockStore seatLockStore = storeMode == SeatLockStoreMode.HASH
+                ? new HashSeatLockStore(stringRedisTemplate, event -> {
+                }, appConfig)
+                : new KeyPerSeatLockStore(stringRedisTemplate);
+
+        this.redisBitmapUtil = new RedisBitmapUtil(
+                redisConfig.redisTemplate(connectionFactory),
+                seatLockStore,
+                new SeatMappingCache(appConfig, meterRegistry),
+                meterRegistry,
+                new SeatLockMetrics(meterRegistry, seatLockStore, new SeatContentionTracker(appConfig)));
+    }
+
+    RedisBitmapUtil redisBitmapUtil() {
+        return redisBitmapUtil;
+    }
+
+    @Override
+    public void close() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.quicktix.showseat_service.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.quicktix.showseat_service.model.document.SeatLayout;
+import com.quicktix.showseat_service.util.LayoutIndex;
+import com.quicktix.showseat_service.validator.SeatValidator;
+
+/**
+ * In-process layout work per show size: validating a maximum-size booking
+ * against the compiled layout, and compiling a layout into the seat mapping
+ * written for every new show.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeatLayoutBenchmark {
+
+    /** app.seat-lock.max-seats-per-booking */
+    private static final int SEATS_PER_BOOKING = 10;
+
+    @Param({"100", "500", "2000"})
+    private int seats;
+
+    private final SeatValidator seatValidator = new SeatValidator();
+    private SeatLayout layout;
+    private LayoutIndex layoutIndex;
+    private List<String> seatNumbers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        layout = SyntheticLayouts.layout(seats);
+        layoutIndex = LayoutIndex.compile(layout);
+
+        // Spread over the whole show rather than the first row
+        seatNumbers = new ArrayList<>(SEATS_PER_BOOKING);
+        for (int i = 0; i < SEATS_PER_BOOKING; i++) {
+            seatNumbers.add(layoutIndex.getSeats().seatAt(i * (seats - 1) / (SEATS_PER_BOOKING - 1)));
+        }
+    }
+
+    @Benchmark
+    public LayoutIndex validateSeatNumbers() {
+        seatValidator.validateSeatNumbers(layoutIndex, seatNumbers);
+        return layoutIndex;
+    }
+
+    /**
+     * What used to be buildSeatMapping: compile the layout, then derive the
+     * seat number -> index map.
+     */
+    @Benchmark
+    public Map<String, Integer> buildSeatMapping() {
+        return LayoutIndex.compile(layout).toSeatMapping();
+    }
+}
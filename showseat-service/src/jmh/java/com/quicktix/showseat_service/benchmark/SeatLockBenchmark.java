@@ -0,0 +1,100 @@
+package com.quicktix.showseat_service.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.quicktix.showseat_service.enums.SeatLockStoreMode;
+import com.quicktix.showseat_service.util.LayoutIndex;
+import com.quicktix.showseat_service.util.RedisBitmapUtil;
+
+/**
+ * Lock and confirm round trips of one client, per lock store and show size.
+ *
+ * Each call takes the next block of 4 free seats. When the show runs out of
+ * blocks it is reset in one command (locks cleared, or the bitmap rezeroed),
+ * which is amortized over seats / 4 calls.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeatLockBenchmark {
+
+    private static final String SHOW_ID = "bench-show";
+    private static final int SEATS_PER_BOOKING = 4;
+    private static final long USER_ID = 42L;
+    private static final String SESSION_ID = "bench-session";
+
+    @Param({"100", "500", "2000"})
+    private int seats;
+
+    @Param({"KEYS", "HASH"})
+    private SeatLockStoreMode store;
+
+    private EmbeddedSeatEngine engine;
+    private RedisBitmapUtil redisBitmapUtil;
+    private List<List<Integer>> blocks;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        engine = new EmbeddedSeatEngine(store);
+        redisBitmapUtil = engine.redisBitmapUtil();
+
+        LayoutIndex layoutIndex = LayoutIndex.compile(SyntheticLayouts.layout(seats));
+        redisBitmapUtil.initializeShow(SHOW_ID, seats, layoutIndex.toSeatMapping());
+
+        blocks = new ArrayList<>();
+        for (int start = 0; start + SEATS_PER_BOOKING <= seats; start += SEATS_PER_BOOKING) {
+            blocks.add(IntStream.range(start, start + SEATS_PER_BOOKING).boxed().toList());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        engine.close();
+    }
+
+    @Benchmark
+    public List<Integer> lockSeatsAtomic() {
+        if (next == blocks.size()) {
+            redisBitmapUtil.clearLocksOnly(SHOW_ID);
+            next = 0;
+        }
+        return redisBitmapUtil.lockSeatsAtomic(SHOW_ID, blocks.get(next++), USER_ID, SESSION_ID, 300);
+    }
+
+    /**
+     * Lock then confirm, the full happy path of a booking; confirm releases
+     * the locks, so only the bitmap needs resetting.
+     */
+    @Benchmark
+    public void lockAndConfirmBooking() {
+        if (next == blocks.size()) {
+            redisBitmapUtil.initializeSeatAvailability(SHOW_ID, seats);
+            next = 0;
+        }
+        List<Integer> block = blocks.get(next++);
+        redisBitmapUtil.lockSeatsAtomic(SHOW_ID, block, USER_ID, SESSION_ID, 300);
+        redisBitmapUtil.confirmBooking(SHOW_ID, block, USER_ID, SESSION_ID);
+    }
+}
@@ -0,0 +1,80 @@
+package com.quicktix.showseat_service.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.quicktix.showseat_service.enums.SeatLockStoreMode;
+import com.quicktix.showseat_service.util.LayoutIndex;
+import com.quicktix.showseat_service.util.RedisBitmapUtil;
+
+/**
+ * Whole-show status scan, per lock store and show size, on a show with about
+ * a third of its seats booked and a tenth locked.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeatStatusBenchmark {
+
+    private static final String SHOW_ID = "bench-show";
+
+    @Param({"100", "500", "2000"})
+    private int seats;
+
+    @Param({"KEYS", "HASH"})
+    private SeatLockStoreMode store;
+
+    private EmbeddedSeatEngine engine;
+    private RedisBitmapUtil redisBitmapUtil;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        engine = new EmbeddedSeatEngine(store);
+        redisBitmapUtil = engine.redisBitmapUtil();
+
+        LayoutIndex layoutIndex = LayoutIndex.compile(SyntheticLayouts.layout(seats));
+        redisBitmapUtil.initializeShow(SHOW_ID, seats, layoutIndex.toSeatMapping());
+
+        List<Integer> booked = new ArrayList<>();
+        List<Integer> locked = new ArrayList<>();
+        for (int i = 0; i < seats; i++) {
+            if (i % 3 == 0) {
+                booked.add(i);
+            } else if (i % 10 == 1) {
+                locked.add(i);
+            }
+        }
+        redisBitmapUtil.lockSeatsAtomic(SHOW_ID, booked, 1L, "booker", 3600);
+        redisBitmapUtil.confirmBooking(SHOW_ID, booked, 1L, "booker");
+        redisBitmapUtil.lockSeatsAtomic(SHOW_ID, locked, 2L, "holder", 3600);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        engine.close();
+    }
+
+    @Benchmark
+    public byte[] getSeatStatusBitmask() {
+        return redisBitmapUtil.getSeatStatusBitmask(SHOW_ID, seats);
+    }
+}
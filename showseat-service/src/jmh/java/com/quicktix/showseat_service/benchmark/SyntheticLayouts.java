@@ -0,0 +1,71 @@
+package com.quicktix.showseat_service.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.quicktix.showseat_service.enums.CellType;
+import com.quicktix.showseat_service.enums.SeatType;
+import com.quicktix.showseat_service.model.document.Cell;
+import com.quicktix.showseat_service.model.document.Row;
+import com.quicktix.showseat_service.model.document.SeatLayout;
+
+/**
+ * Screen-like layouts of any size: rows of 20 seats split by a centre aisle,
+ * seat types banded from the front row (SILVER) to the back (DIAMOND).
+ */
+final class SyntheticLayouts {
+
+    static final int SEATS_PER_ROW = 20;
+
+    private static final SeatType[] SEAT_TYPES = SeatType.values();
+
+    private SyntheticLayouts() {
+    }
+
+    static SeatLayout layout(int totalSeats) {
+        int rowCount = (totalSeats + SEATS_PER_ROW - 1) / SEATS_PER_ROW;
+        List<Row> rows = new ArrayList<>(rowCount);
+
+        int seat = 0;
+        for (int r = 0; r < rowCount; r++) {
+            String label = rowLabel(r);
+            SeatType seatType = SEAT_TYPES[r * SEAT_TYPES.length / rowCount];
+            int seatsInRow = Math.min(SEATS_PER_ROW, totalSeats - seat);
+
+            List<Cell> cells = new ArrayList<>(seatsInRow + 1);
+            for (int c = 0; c < seatsInRow; c++) {
+                if (c == SEATS_PER_ROW / 2) {
+                    cells.add(Cell.builder().col(cells.size()).type(CellType.SPACE).build());
+                }
+                cells.add(Cell.builder()
+                        .col(cells.size())
+                        .type(CellType.SEAT)
+                        .seatNo(label + (c + 1))
+                        .seatType(seatType)
+                        .build());
+            }
+            seat += seatsInRow;
+            rows.add(Row.builder().rowIndex(r).rowLabel(label).cells(cells).build());
+        }
+
+        return SeatLayout.builder()
+                .id("bench-layout-" + totalSeats)
+                .layoutName("Bench_" + totalSeats)
+                .rows(rows)
+                .totalRows(rowCount)
+                .totalColumns(SEATS_PER_ROW + 1)
+                .totalSeats(totalSeats)
+                .isActive(true)
+                .version(1)
+                .build();
+    }
+
+    /** A..Z, then AA, AB, ... */
+    private static String rowLabel(int row) {
+        StringBuilder label = new StringBuilder();
+        for (int r = row; r >= 0; r = r / 26 - 1) {
+            label.insert(0, (char) ('A' + r % 26));
+        }
+        return label.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package com.quicktix.showseat_service.broadcast;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.quicktix.showseat_service.dto.response.SeatDeltaFrame;
+import com.quicktix.showseat_service.enums.SeatRelayMode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sends frames to the in-memory broker of this instance only.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.broadcast", name = "relay", havingValue = "local", matchIfMissing = true)
+public class LocalSeatFrameRelay implements SeatFrameRelay {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Map<String, AtomicLong> sequences = new ConcurrentHashMap<>();
+
+    @Override
+    public SeatRelayMode mode() {
+        return SeatRelayMode.LOCAL;
+    }
+
+    @Override
+    public void publish(String showId, int[] changes, long timestamp) {
+        long seq = sequences.computeIfAbsent(showId, id -> new AtomicLong()).incrementAndGet();
+        messagingTemplate.convertAndSend(SeatUpdateBroadcaster.TOPIC_PREFIX + showId, SeatDeltaFrame.builder()
+                .showId(showId)
+                .seq(seq)
+                .changes(changes)
+                .timestamp(timestamp)
+                .build());
+    }
+
+    @Override
+    public long currentSequence(String showId) {
+        AtomicLong seq = sequences.get(showId);
+        return seq != null ? seq.get() : 0;
+    }
+
+    @Override
+    public void evict(String showId) {
+        sequences.remove(showId);
+    }
+}
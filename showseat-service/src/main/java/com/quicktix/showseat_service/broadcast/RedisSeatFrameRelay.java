@@ -0,0 +1,133 @@
+package com.quicktix.showseat_service.broadcast;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.quicktix.showseat_service.dto.response.SeatDeltaFrame;
+import com.quicktix.showseat_service.enums.SeatRelayMode;
+import com.quicktix.showseat_service.util.SeatLockScripts;
+import com.quicktix.showseat_service.util.SeatRedisKeys;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans frames out through Redis pub/sub so any number of instances can serve
+ * subscribers of the same show.
+ *
+ * The instance that flushes a show publishes the frame once on
+ * SEAT_FRAMES:{showId}; every instance, including the sender, receives it
+ * and hands it to its local broker. Sequences come from
+ * SEAT_FRAME_SEQ:{showId}, incremented in the same script that publishes.
+ *
+ * Instances subscribe to all shows with one pattern. Frames are coalesced,
+ * so that is a few messages per second per active show.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.broadcast", name = "relay", havingValue = "redis")
+public class RedisSeatFrameRelay implements SeatFrameRelay, MessageListener {
+
+    /**
+     * Idle shows let their counter lapse; clients see the sequence restart and resync
+     */
+    private static final long SEQUENCE_TTL_MS = Duration.ofDays(1).toMillis();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new PatternTopic(SeatRedisKeys.SEAT_FRAMES_CHANNEL_PREFIX + "*"));
+    }
+
+    @Override
+    public SeatRelayMode mode() {
+        return SeatRelayMode.REDIS;
+    }
+
+    @Override
+    public void publish(String showId, int[] changes, long timestamp) {
+        stringRedisTemplate.execute(
+                SeatLockScripts.PUBLISH_SEAT_FRAME,
+                List.of(SeatRedisKeys.frameSequence(showId)),
+                SeatRedisKeys.frameChannel(showId),
+                encode(changes, timestamp),
+                String.valueOf(SEQUENCE_TTL_MS));
+    }
+
+    @Override
+    public long currentSequence(String showId) {
+        String seq = stringRedisTemplate.opsForValue().get(SeatRedisKeys.frameSequence(showId));
+        return seq != null ? Long.parseLong(seq) : 0;
+    }
+
+    @Override
+    public void evict(String showId) {
+        stringRedisTemplate.unlink(SeatRedisKeys.frameSequence(showId));
+    }
+
+    /**
+     * Relays a frame published by any instance to this instance's subscribers.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String showId = channel.substring(SeatRedisKeys.SEAT_FRAMES_CHANNEL_PREFIX.length());
+        try {
+            SeatDeltaFrame frame = decode(showId, new String(message.getBody(), StandardCharsets.UTF_8));
+            messagingTemplate.convertAndSend(SeatUpdateBroadcaster.TOPIC_PREFIX + showId, frame);
+        } catch (RuntimeException e) {
+            log.error("Failed to relay seat frame for show {}", showId, e);
+        }
+    }
+
+    /**
+     * timestampMs|change,change,...
+     */
+    static String encode(int[] changes, long timestamp) {
+        StringBuilder body = new StringBuilder(changes.length * 6 + 16).append(timestamp).append('|');
+        for (int i = 0; i < changes.length; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append(changes[i]);
+        }
+        return body.toString();
+    }
+
+    /**
+     * seq|timestampMs|change,change,... as published by the script
+     */
+    static SeatDeltaFrame decode(String showId, String body) {
+        int first = body.indexOf('|');
+        int second = body.indexOf('|', first + 1);
+
+        String list = body.substring(second + 1);
+        String[] parts = list.isEmpty() ? new String[0] : list.split(",");
+        int[] changes = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            changes[i] = Integer.parseInt(parts[i]);
+        }
+
+        return SeatDeltaFrame.builder()
+                .showId(showId)
+                .seq(Long.parseLong(body.substring(0, first)))
+                .changes(changes)
+                .timestamp(Long.parseLong(body.substring(first + 1, second)))
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.quicktix.showseat_service.broadcast;
+
+import com.quicktix.showseat_service.enums.SeatRelayMode;
+
+/**
+ * Fan-out of seat delta frames to STOMP subscribers, selected by
+ * app.broadcast.relay. The relay owns the per-show frame sequence, since
+ * with several instances it has to be shared by all of them.
+ */
+public interface SeatFrameRelay {
+
+    SeatRelayMode mode();
+
+    /**
+     * Numbers the frame with the show's next sequence and delivers it to the
+     * subscribers of the show on every instance.
+     *
+     * @param changes (seatIndex << 2) | status per changed seat
+     */
+    void publish(String showId, int[] changes, long timestamp);
+
+    /**
+     * @return sequence of the last frame published for the show, 0 if none
+     */
+    long currentSequence(String showId);
+
+    void evict(String showId);
+}
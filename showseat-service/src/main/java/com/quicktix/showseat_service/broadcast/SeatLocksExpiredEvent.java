@@ -0,0 +1,18 @@
+package com.quicktix.showseat_service.broadcast;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Seat locks of a show ran out without being confirmed or released, so the
+ * seats are available again.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SeatLocksExpiredEvent {
+
+    private final String showId;
+    private final List<Integer> seatIndices;
+}
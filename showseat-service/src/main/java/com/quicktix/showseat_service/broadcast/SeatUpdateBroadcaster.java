@@ -0,0 +1,114 @@
+package com.quicktix.showseat_service.broadcast;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.quicktix.showseat_service.enums.SeatStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalescing per-show seat broadcaster.
+ *
+ * Request threads only record the new status of each changed seat. A
+ * scheduled flush sends at most one {@link SeatDeltaFrame} per show per
+ * window, so a burst of locks on a show costs subscribers one frame, and a
+ * seat changed twice within the window is sent once with its latest status.
+ *
+ * Frames are numbered and delivered by the configured {@link SeatFrameRelay}.
+ * Slow subscribers are handled by the transport limits in WebSocketConfig:
+ * a session that cannot keep up within the send time or buffer limit is
+ * closed rather than allowed to back up the flush.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatUpdateBroadcaster {
+
+    static final String TOPIC_PREFIX = "/topic/show/";
+
+    private final SeatFrameRelay seatFrameRelay;
+    private final Map<String, ShowChannel> channels = new ConcurrentHashMap<>();
+
+    public void publish(String showId, Collection<Integer> seatIndices, SeatStatus status) {
+        if (seatIndices == null || seatIndices.isEmpty()) {
+            return;
+        }
+        channels.computeIfAbsent(showId, id -> new ShowChannel()).record(seatIndices, status);
+    }
+
+    @EventListener
+    public void onLocksExpired(SeatLocksExpiredEvent event) {
+        publish(event.getShowId(), event.getSeatIndices(), SeatStatus.AVAILABLE);
+    }
+
+    /**
+     * @return sequence of the last frame flushed for the show, 0 if none yet
+     */
+    public long currentSequence(String showId) {
+        return seatFrameRelay.currentSequence(showId);
+    }
+
+    /**
+     * Forgets a deleted show, dropping any changes not yet sent.
+     */
+    public void evict(String showId) {
+        channels.remove(showId);
+        seatFrameRelay.evict(showId);
+    }
+
+    @Scheduled(fixedDelayString = "#{@appConfig.broadcast.flushIntervalMs}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        channels.forEach((showId, channel) -> {
+            int[] changes = channel.drain();
+            if (changes == null) {
+                return;
+            }
+            try {
+                seatFrameRelay.publish(showId, changes, now);
+                log.debug("Broadcasted {} seat changes for show {}", changes.length, showId);
+            } catch (Exception e) {
+                log.error("Failed to broadcast seat update for show {}", showId, e);
+            }
+        });
+    }
+
+    /**
+     * Pending changes of one show.
+     */
+    private static final class ShowChannel {
+
+        private final Map<Integer, SeatStatus> pending = new TreeMap<>();
+
+        synchronized void record(Collection<Integer> seatIndices, SeatStatus status) {
+            for (Integer index : seatIndices) {
+                pending.put(index, status);
+            }
+        }
+
+        /**
+         * @return (seatIndex << 2) | status per pending seat, or null if none
+         */
+        synchronized int[] drain() {
+            if (pending.isEmpty()) {
+                return null;
+            }
+
+            int[] changes = new int[pending.size()];
+            int i = 0;
+            for (Map.Entry<Integer, SeatStatus> change : pending.entrySet()) {
+                changes[i++] = (change.getKey() << 2) | change.getValue().ordinal();
+            }
+            pending.clear();
+            return changes;
+        }
+    }
+}
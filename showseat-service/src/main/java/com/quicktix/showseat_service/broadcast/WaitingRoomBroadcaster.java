@@ -0,0 +1,31 @@
+package com.quicktix.showseat_service.broadcast;
+
+import java.util.Map;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.quicktix.showseat_service.dto.response.WaitingRoomFrame;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sends waiting room frames on the show's seat topic.
+ *
+ * Every instance reads the queue state itself each tick and sends it to its
+ * own subscribers, so unlike seat deltas these frames need no relay.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomBroadcaster {
+
+    public static final String FRAME_HEADER = "frame";
+    public static final String FRAME_TYPE = "waiting-room";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public void publish(WaitingRoomFrame frame) {
+        messagingTemplate.convertAndSend(SeatUpdateBroadcaster.TOPIC_PREFIX + frame.getShowId(), frame,
+                Map.of(FRAME_HEADER, FRAME_TYPE));
+    }
+}
@@ -3,6 +3,9 @@ package com.quicktix.showseat_service.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import com.quicktix.showseat_service.enums.SeatLockStoreMode;
+import com.quicktix.showseat_service.enums.SeatRelayMode;
+
 import lombok.Data;
 
 @Data
@@ -12,15 +15,65 @@ public class AppConfig {
 
     private SeatLock seatLock = new SeatLock();
     private Show show = new Show();
+    private Cache cache = new Cache();
+    private Broadcast broadcast = new Broadcast();
+    private Metrics metrics = new Metrics();
+    private WaitingRoom waitingRoom = new WaitingRoom();
 
     @Data
     public static class SeatLock {
         private int ttlSeconds = 300; // 5 minutes lock duration
         private int maxSeatsPerBooking = 10;
+        private SeatLockStoreMode store = SeatLockStoreMode.KEYS;
+        private long sweepIntervalMs = 30000; // hash store expiry sweeper
+        private boolean migrateLegacy = false; // carry key-per-seat locks into the hash store on startup
+        private boolean expiryEvents = false; // broadcast expired locks as AVAILABLE
+        private String keyspaceNotifications = "Ex"; // set on Redis when it has none; empty to leave it alone
     }
 
     @Data
     public static class Show {
         private int bookingCutoffMinutes = 30;
+        private int maxShowsPerBatch = 200;
+        private int maxSummaryShows = 100;
+        private long reconcileIntervalMs = 300000; // repair seat counters from the bitmap every 5 minutes
+    }
+
+    @Data
+    public static class Cache {
+        private long seatMappingMaxShows = 5000;
+        private long showTtlSeconds = 5; // shows carry mutable status, keep them short-lived
+        private long showMaxEntries = 10000;
+        private long layoutMaxCells = 2_000_000; // layouts are weighed by cell count
+        private long layoutIndexMaxEntries = 2000;
+        private long priceTableMaxShows = 5000;
+    }
+
+    @Data
+    public static class Broadcast {
+        private long flushIntervalMs = 75; // coalescing window for seat update frames
+        private SeatRelayMode relay = SeatRelayMode.LOCAL;
+        private int sendTimeLimitMs = 10000; // slow WebSocket sessions are closed past these limits
+        private int sendBufferSizeLimit = 512 * 1024;
+    }
+
+    @Data
+    public static class Metrics {
+        private int contentionTopK = 100; // shows and seats tracked by /actuator/seatcontention
+        private double contentionSampleRate = 0.1; // fraction of lock conflicts recorded there
+    }
+
+    @Data
+    public static class WaitingRoom {
+        private boolean enabled = false; // rooms are opened per show; this turns the feature on at all
+        private long tickIntervalMs = 1000; // admission and queue position frames
+        private double initialAdmitPerSecond = 10; // per show
+        private double minAdmitPerSecond = 1;
+        private double maxAdmitPerSecond = 100;
+        private double admitIncreasePerTick = 1; // additive increase while lock latency is under target
+        private double admitDecreaseFactor = 0.5; // multiplicative decrease once it is over
+        private long targetLockLatencyMs = 50; // mean seat.lock.request latency over a tick
+        private int tokenTtlSeconds = 600; // time an admitted user has to pick and lock seats
+        private int queueTtlSeconds = 21600; // queue keys of an abandoned room expire after this
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import java.time.Duration;
 
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -11,8 +12,11 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -24,6 +28,9 @@ import io.lettuce.core.api.StatefulConnection;
 
 @Configuration
 public class RedisConfig {
+
+    private static final String REDIS_LISTENERS_ENABLED = "${app.seat-lock.expiry-events:false}"
+            + " or '${app.broadcast.relay:LOCAL}'.equalsIgnoreCase('REDIS')";
     
     @Value("${spring.data.redis.host}")
     private String redisHost;
@@ -96,4 +103,38 @@ public class RedisConfig {
         
         return template;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Plain string template for Lua scripts and lock metadata, so script
+     * arguments and hash fields are not JSON-quoted.
+     */
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * Listener container for lock expiry events and relayed seat frames.
+     * Dispatches on one thread rather than the default thread-per-message
+     * executor, which also keeps relayed frames in publish order.
+     */
+    @Bean
+    @ConditionalOnExpression(REDIS_LISTENERS_ENABLED)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+            ThreadPoolTaskExecutor redisListenerExecutor) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(redisListenerExecutor);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnExpression(REDIS_LISTENERS_ENABLED)
+    public ThreadPoolTaskExecutor redisListenerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("redis-listener-");
+        return executor;
+    }
+}
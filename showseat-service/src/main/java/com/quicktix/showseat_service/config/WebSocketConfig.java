@@ -5,14 +5,22 @@ import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import lombok.RequiredArgsConstructor;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final AppConfig appConfig;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic");
+        // Seat frames are sequenced; deliver them to each session in order
+        config.setPreservePublishOrder(true);
         config.setApplicationDestinationPrefixes("/app");
     }
 
@@ -31,4 +39,15 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setSuppressCors(true);
     }
 
+    /**
+     * Backpressure for slow subscribers: a session whose pending frames exceed
+     * the buffer limit, or whose send blocks past the time limit, is closed.
+     * Clients reconnect and resync from a snapshot.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+                .setSendTimeLimit(appConfig.getBroadcast().getSendTimeLimitMs())
+                .setSendBufferSizeLimit(appConfig.getBroadcast().getSendBufferSizeLimit());
+    }
 }
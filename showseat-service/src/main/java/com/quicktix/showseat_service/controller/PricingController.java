@@ -1,13 +1,13 @@
 package com.quicktix.showseat_service.controller;
 
 import com.quicktix.showseat_service.dto.request.GetSeatPricesRequest;
+import com.quicktix.showseat_service.dto.request.QuoteSeatPricesRequest;
 import com.quicktix.showseat_service.dto.response.ApiResponse;
 import com.quicktix.showseat_service.exception.ShowNotFoundException;
 import com.quicktix.showseat_service.model.document.Pricing;
-import com.quicktix.showseat_service.model.document.SeatLayout;
 import com.quicktix.showseat_service.model.document.Show;
-import com.quicktix.showseat_service.repository.SeatLayoutRepository;
-import com.quicktix.showseat_service.repository.ShowRepository;
+import com.quicktix.showseat_service.service.PricingService;
+import com.quicktix.showseat_service.util.ShowCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -29,15 +30,15 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class PricingController {
 
-    private final ShowRepository showRepository;
-    private final SeatLayoutRepository layoutRepository;
+    private final ShowCache showCache;
+    private final PricingService pricingService;
 
     /**
      * Get prices for specific seats in a show.
      * 
      * Returns a map of seat number to price based on seat type.
-     * Seat types (SILVER, GOLD, PLATINUM, DIAMOND) are determined
-     * from the seat layout configuration.
+     * Seat types (SILVER, GOLD, PLATINUM, DIAMOND) are read from the
+     * seat layout, falling back to row-based tiers for untyped seats.
      */
     @PostMapping("/{showId}")
     public ResponseEntity<ApiResponse<Map<String, BigDecimal>>> getSeatPrices(
@@ -45,35 +46,29 @@ public class PricingController {
             @RequestBody GetSeatPricesRequest request) {
         log.info("Getting prices for show {} seats: {}", showId, request.getSeatNumbers());
 
-        Show show = showRepository.findById(showId)
-                .orElseThrow(() -> new ShowNotFoundException("Show not found: " + showId));
+        Map<String, BigDecimal> seatPrices = pricingService.getSeatPrices(showId, request.getSeatNumbers());
 
-        Pricing pricing = show.getPricing();
-        if (pricing == null) {
-            log.warn("Show {} has no pricing configured, using defaults", showId);
-            pricing = Pricing.builder()
-                    .silver(BigDecimal.valueOf(150))
-                    .gold(BigDecimal.valueOf(250))
-                    .platinum(BigDecimal.valueOf(350))
-                    .diamond(BigDecimal.valueOf(500))
-                    .build();
-        }
+        log.info("Calculated prices for {} seats", seatPrices.size());
 
-        // Get seat layout to determine seat types
-        SeatLayout layout = layoutRepository.findById(show.getLayoutId())
-                .orElse(null);
+        return ResponseEntity.ok(ApiResponse.success(seatPrices, "Seat prices retrieved"));
+    }
 
-        Map<String, BigDecimal> seatPrices = new HashMap<>();
+    /**
+     * Get prices for seats across several shows in one call.
+     * 
+     * Returns show id -> (seat number -> price). Unknown shows are omitted.
+     */
+    @PostMapping("/quote")
+    public ResponseEntity<ApiResponse<Map<String, Map<String, BigDecimal>>>> quoteSeatPrices(
+            @RequestBody QuoteSeatPricesRequest request) {
+        Map<String, List<String>> seatsByShow = request.getSeatsByShow() != null
+                ? request.getSeatsByShow()
+                : Map.of();
+        log.info("Quoting seat prices for {} shows", seatsByShow.size());
 
-        for (String seatNumber : request.getSeatNumbers()) {
-            String seatType = getSeatTypeFromLayout(layout, seatNumber);
-            BigDecimal price = pricing.getPriceForSeatType(seatType);
-            seatPrices.put(seatNumber, price);
-        }
+        Map<String, Map<String, BigDecimal>> quotes = pricingService.quoteSeatPrices(seatsByShow);
 
-        log.info("Calculated prices for {} seats", seatPrices.size());
-
-        return ResponseEntity.ok(ApiResponse.success(seatPrices, "Seat prices retrieved"));
+        return ResponseEntity.ok(ApiResponse.success(quotes, "Seat prices retrieved"));
     }
 
     /**
@@ -82,7 +77,7 @@ public class PricingController {
     @GetMapping("/shows/{showId}/price")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getShowBasePrice(
             @PathVariable String showId) {
-        Show show = showRepository.findById(showId)
+        Show show = showCache.findById(showId)
                 .orElseThrow(() -> new ShowNotFoundException("Show not found: " + showId));
 
         Pricing pricing = show.getPricing();
@@ -99,35 +94,4 @@ public class PricingController {
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
-
-    /**
-     * Determine seat type from layout based on seat number.
-     * 
-     * This is a simplified implementation - in production,
-     * seat types would be stored in the layout configuration.
-     */
-    private String getSeatTypeFromLayout(SeatLayout layout, String seatNumber) {
-        // Parse row from seat number (e.g., "A1" -> "A")
-        if (seatNumber == null || seatNumber.isEmpty()) {
-            return "SILVER";
-        }
-
-        char rowChar = seatNumber.charAt(0);
-
-        // Simple row-based classification
-        // Rows A-C: DIAMOND (front premium)
-        // Rows D-F: PLATINUM
-        // Rows G-J: GOLD
-        // Rows K+: SILVER
-
-        if (rowChar >= 'A' && rowChar <= 'C') {
-            return "DIAMOND";
-        } else if (rowChar >= 'D' && rowChar <= 'F') {
-            return "PLATINUM";
-        } else if (rowChar >= 'G' && rowChar <= 'J') {
-            return "GOLD";
-        } else {
-            return "SILVER";
-        }
-    }
 }
@@ -1,13 +1,17 @@
 package com.quicktix.showseat_service.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.quicktix.showseat_service.dto.response.ApiResponse;
 import com.quicktix.showseat_service.dto.response.SeatAvailabilityResponse;
+import com.quicktix.showseat_service.dto.response.SeatAvailabilitySummary;
 import com.quicktix.showseat_service.service.SeatAvailabilityService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,6 +37,26 @@ public class SeatAvailabilityController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/show/{showId}/summary")
+    @Operation(summary = "Get seat counters for show", description = "Available, booked and locked seat counts without the per-seat map")
+    public ResponseEntity<ApiResponse<SeatAvailabilitySummary>> getAvailabilitySummary(
+            @Parameter(description = "Show ID") @PathVariable String showId) {
+
+        SeatAvailabilitySummary response = seatAvailabilityService.getAvailabilitySummary(showId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/summary")
+    @Operation(summary = "Get seat counters for many shows", description = "Seat counts for a list of shows in one call; unknown shows are omitted")
+    public ResponseEntity<ApiResponse<List<SeatAvailabilitySummary>>> getAvailabilitySummaries(
+            @Parameter(description = "Show IDs") @RequestParam List<String> showIds) {
+
+        List<SeatAvailabilitySummary> response = seatAvailabilityService.getAvailabilitySummaries(showIds);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/show/{showId}/seat/{seatNo}/available")
     @Operation(summary = "Check seat availability", description = "Check whether a specific seat is available for a show")
     public ResponseEntity<ApiResponse<Boolean>> isSeatAvailable(
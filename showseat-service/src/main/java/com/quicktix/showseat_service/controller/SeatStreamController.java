@@ -0,0 +1,46 @@
+package com.quicktix.showseat_service.controller;
+
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import com.quicktix.showseat_service.broadcast.SeatUpdateBroadcaster;
+import com.quicktix.showseat_service.dto.response.SeatSnapshotFrame;
+import com.quicktix.showseat_service.service.SeatAvailabilityService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP endpoints for live seat maps.
+ *
+ * Clients subscribe to /topic/show/{showId} for delta frames, then to
+ * /app/show/{showId}/snapshot for the state to apply them to. While the
+ * show's waiting room is open the topic also carries WaitingRoomFrames,
+ * marked with a "frame: waiting-room" header.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class SeatStreamController {
+
+    private final SeatAvailabilityService seatAvailabilityService;
+    private final SeatUpdateBroadcaster seatUpdateBroadcaster;
+
+    @SubscribeMapping("/show/{showId}/snapshot")
+    public SeatSnapshotFrame snapshot(@DestinationVariable String showId) {
+        // Read the sequence before the seats: every change in a frame up to
+        // seq was written to Redis before that frame was sent
+        long seq = seatUpdateBroadcaster.currentSequence(showId);
+        String statuses = seatAvailabilityService.getCompressedAvailability(showId);
+
+        log.debug("Sent seat snapshot for show {} at seq {}", showId, seq);
+
+        return SeatSnapshotFrame.builder()
+                .showId(showId)
+                .seq(seq)
+                .statuses(statuses)
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+}
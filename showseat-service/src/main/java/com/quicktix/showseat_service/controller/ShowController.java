@@ -7,6 +7,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -23,11 +24,14 @@ import com.quicktix.showseat_service.dto.response.ShowResponse;
 import com.quicktix.showseat_service.enums.ShowStatus;
 import com.quicktix.showseat_service.service.ShowService;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @RestController
+@Validated
 @RequestMapping("/api/shows")
 @RequiredArgsConstructor
 public class ShowController {
@@ -49,6 +53,17 @@ public class ShowController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'THEATRE_OWNER')")
+    public ResponseEntity<List<ShowResponse>> createShows(
+            @Valid @RequestBody @NotEmpty(message = "At least one show is required")
+            List<@Valid CreateShowRequest> requests,
+            @RequestHeader("X-User-Id") Long createdBy) {
+        log.info("Creating {} shows for user: {}", requests.size(), createdBy);
+        List<ShowResponse> responses = showService.createShows(requests, createdBy);
+        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+    }
+
     /*
      * ============================================================
      * GET SHOWS (Public)
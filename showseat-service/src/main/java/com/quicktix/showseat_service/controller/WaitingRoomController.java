@@ -0,0 +1,73 @@
+package com.quicktix.showseat_service.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.quicktix.showseat_service.dto.response.ApiResponse;
+import com.quicktix.showseat_service.dto.response.WaitingRoomStatus;
+import com.quicktix.showseat_service.service.WaitingRoomService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/waiting-room")
+@RequiredArgsConstructor
+@Tag(name = "Waiting Room", description = "APIs for queueing users of oversubscribed shows before they lock seats")
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping("/{showId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'THEATRE_OWNER')")
+    @Operation(summary = "Open waiting room", description = "Require an admission token to lock seats of the show")
+    public ResponseEntity<ApiResponse<Void>> openRoom(
+            @Parameter(description = "Show ID") @PathVariable String showId) {
+
+        waitingRoomService.openRoom(showId);
+        return ResponseEntity.ok(ApiResponse.success(null, "Waiting room opened"));
+    }
+
+    @DeleteMapping("/{showId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'THEATRE_OWNER')")
+    @Operation(summary = "Close waiting room", description = "Drop the queue and let anyone lock seats again")
+    public ResponseEntity<ApiResponse<Void>> closeRoom(
+            @Parameter(description = "Show ID") @PathVariable String showId) {
+
+        waitingRoomService.closeRoom(showId);
+        return ResponseEntity.ok(ApiResponse.success(null, "Waiting room closed"));
+    }
+
+    @PostMapping("/{showId}/join")
+    @Operation(summary = "Join queue", description = "Join the show's queue, keeping the original place if already in it")
+    public ResponseEntity<ApiResponse<WaitingRoomStatus>> join(
+            @Parameter(description = "Show ID") @PathVariable String showId,
+            @Parameter(description = "User ID") @RequestHeader("X-User-Id") Long userId) {
+
+        log.info("Waiting room join: showId={}, userId={}", showId, userId);
+
+        WaitingRoomStatus status = waitingRoomService.join(showId, userId);
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
+
+    @GetMapping("/{showId}/status")
+    @Operation(summary = "Queue status", description = "Place in line, or the admission token once admitted")
+    public ResponseEntity<ApiResponse<WaitingRoomStatus>> getStatus(
+            @Parameter(description = "Show ID") @PathVariable String showId,
+            @Parameter(description = "User ID") @RequestHeader("X-User-Id") Long userId) {
+
+        WaitingRoomStatus status = waitingRoomService.getStatus(showId, userId);
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
+}
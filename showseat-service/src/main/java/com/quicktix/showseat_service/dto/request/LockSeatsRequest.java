@@ -30,4 +30,9 @@ public class LockSeatsRequest {
     
     @NotBlank(message = "Session ID is required")
     private String sessionId;
+    
+    /**
+     * Required while the show's waiting room is open, see /waiting-room
+     */
+    private String admissionToken;
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.quicktix.showseat_service.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request DTO for pricing seats across several shows at once
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteSeatPricesRequest {
+
+    /**
+     * Show id -> seat numbers to price
+     */
+    private Map<String, List<String>> seatsByShow;
+}
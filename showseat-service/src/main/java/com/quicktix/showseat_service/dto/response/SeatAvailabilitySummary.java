@@ -0,0 +1,27 @@
+package com.quicktix.showseat_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Seat counters of a show without the per-seat map, for listing pages.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatAvailabilitySummary {
+
+    private String showId;
+    private Integer totalSeats;
+    private Integer availableSeats;
+    private Integer bookedSeats;
+    private Integer lockedSeats;
+
+    /**
+     * Booked plus locked seats as a percentage of the total, for "fast filling" badges
+     */
+    private Integer occupancyPercent;
+}
@@ -0,0 +1,32 @@
+package com.quicktix.showseat_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Coalesced seat changes for one show, sent on /topic/show/{showId}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatDeltaFrame {
+
+    private String showId;
+
+    /**
+     * Per-show frame sequence, starting at 1. A gap means frames were missed
+     * and the client should request a new snapshot.
+     */
+    private long seq;
+
+    /**
+     * One entry per changed seat: (seatIndex << 2) | status, where status is
+     * the SeatStatus ordinal (0=AVAILABLE, 1=LOCKED, 2=BOOKED, 3=BLOCKED)
+     */
+    private int[] changes;
+
+    private long timestamp;
+}
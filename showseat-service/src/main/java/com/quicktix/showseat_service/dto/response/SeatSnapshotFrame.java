@@ -0,0 +1,33 @@
+package com.quicktix.showseat_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Full seat state of a show, returned once on subscribe to /app/show/{showId}/snapshot.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatSnapshotFrame {
+
+    private String showId;
+
+    /**
+     * Last delta sequence covered by this snapshot. Apply only deltas with a
+     * higher seq; replaying one the snapshot already covers is harmless since
+     * deltas carry absolute statuses.
+     */
+    private long seq;
+
+    /**
+     * Base64 of 2 bits per seat index, four seats per byte starting at the
+     * low bits (same encoding as /seat-availability/{showId}/compressed)
+     */
+    private String statuses;
+
+    private long timestamp;
+}
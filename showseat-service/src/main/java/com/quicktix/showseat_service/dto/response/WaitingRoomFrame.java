@@ -0,0 +1,38 @@
+package com.quicktix.showseat_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Queue progress of a show's waiting room, sent on /topic/show/{showId} once
+ * per tick with a "frame: waiting-room" header so clients can tell it from
+ * seat delta frames.
+ *
+ * A queued client's place in line is about sequence - servingSequence + 1,
+ * counting users ahead who have since left; GET /waiting-room/{showId}/status
+ * gives the exact position and, once admitted, the token.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingRoomFrame {
+
+    private String showId;
+
+    /**
+     * Join sequence of the user at the head of the queue
+     */
+    private long servingSequence;
+
+    private long queueLength;
+
+    /**
+     * Current admission rate, users per second
+     */
+    private double admitPerSecond;
+
+    private long timestamp;
+}
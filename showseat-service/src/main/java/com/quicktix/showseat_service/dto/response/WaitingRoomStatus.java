@@ -0,0 +1,41 @@
+package com.quicktix.showseat_service.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.quicktix.showseat_service.enums.WaitingRoomState;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A user's place in a show's waiting room.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingRoomStatus {
+
+    private String showId;
+    private Long userId;
+    private WaitingRoomState state;
+
+    /**
+     * Join sequence, compared with WaitingRoomFrame.servingSequence to follow
+     * progress from the live frames (QUEUED only)
+     */
+    private Long sequence;
+
+    /**
+     * 1-based place in line when the status was read (QUEUED only)
+     */
+    private Long position;
+
+    /**
+     * Pass as admissionToken when locking seats (ADMITTED only)
+     */
+    private String admissionToken;
+    private LocalDateTime admissionExpiresAt;
+}
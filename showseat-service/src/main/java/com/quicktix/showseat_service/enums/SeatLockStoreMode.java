@@ -0,0 +1,15 @@
+package com.quicktix.showseat_service.enums;
+
+public enum SeatLockStoreMode {
+    /**
+     * One SEAT_LOCK string plus one SEAT_LOCK_META hash per locked seat,
+     * expired by Redis key TTLs
+     */
+    KEYS,
+
+    /**
+     * One SEAT_LOCKS hash and one SEAT_LOCK_EXP sorted set per show,
+     * expired lazily by the lock scripts and by a periodic sweeper
+     */
+    HASH
+}
@@ -0,0 +1,48 @@
+package com.quicktix.showseat_service.enums;
+
+public enum SeatOutcome {
+    /**
+     * Seat was locked for the requesting user/session
+     */
+    LOCKED,
+
+    /**
+     * Seat is already booked (bit set in the availability bitmap)
+     */
+    ALREADY_BOOKED,
+
+    /**
+     * Seat is held by another lock
+     */
+    LOCKED_BY_OTHER,
+
+    /**
+     * Seat was booked from a lock held by the requesting user/session
+     */
+    CONFIRMED,
+
+    /**
+     * Seat was booked after its lock expired, since nobody else took it
+     */
+    CONFIRMED_AFTER_EXPIRY,
+
+    /**
+     * Seat was booked earlier by this same booking; the confirm was a replay
+     */
+    ALREADY_CONFIRMED,
+
+    /**
+     * Seat is neither locked nor booked
+     */
+    NOT_LOCKED,
+
+    /**
+     * Lock held by the requesting user/session was released
+     */
+    RELEASED,
+
+    /**
+     * Seat is not locked by the requesting user/session
+     */
+    NOT_OWNED
+}
@@ -0,0 +1,15 @@
+package com.quicktix.showseat_service.enums;
+
+public enum SeatRelayMode {
+    /**
+     * Frames go straight to this instance's subscribers; needs a single
+     * instance or sticky routing per show
+     */
+    LOCAL,
+
+    /**
+     * Frames are published once on Redis pub/sub and every instance relays
+     * them to its own subscribers
+     */
+    REDIS
+}
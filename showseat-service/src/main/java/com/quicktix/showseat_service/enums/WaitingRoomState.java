@@ -0,0 +1,23 @@
+package com.quicktix.showseat_service.enums;
+
+public enum WaitingRoomState {
+    /**
+     * The show has no open waiting room; seats can be locked without a token
+     */
+    CLOSED,
+
+    /**
+     * The user has not joined the show's queue
+     */
+    NOT_QUEUED,
+
+    /**
+     * The user is waiting in line
+     */
+    QUEUED,
+
+    /**
+     * The user holds an admission token and may lock seats until it expires
+     */
+    ADMITTED
+}
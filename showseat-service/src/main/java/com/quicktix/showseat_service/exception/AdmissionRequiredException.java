@@ -0,0 +1,9 @@
+package com.quicktix.showseat_service.exception;
+
+public class AdmissionRequiredException extends RuntimeException {
+    private static final long serialVersionUID = 4180365913272650217L;
+
+    public AdmissionRequiredException(String message) {
+        super(message);
+    }
+}
@@ -60,6 +60,14 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.errorWithCode("SEAT_ALREADY_BOOKED", ex.getMessage()));
     }
 
+    @ExceptionHandler(AdmissionRequiredException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAdmissionRequired(AdmissionRequiredException ex) {
+        log.warn("Admission required: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(ApiResponse.errorWithCode("ADMISSION_REQUIRED", ex.getMessage()));
+    }
+
     @ExceptionHandler(InvalidSeatException.class)
     public ResponseEntity<ApiResponse<Void>> handleInvalidSeat(InvalidSeatException ex) {
         log.error("Invalid seat: {}", ex.getMessage());
@@ -0,0 +1,29 @@
+package com.quicktix.showseat_service.metrics;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/seatcontention: the most contended shows and seat indices since
+ * startup. Read-only, since /actuator/** is not authenticated.
+ */
+@Component
+@Endpoint(id = "seatcontention")
+@RequiredArgsConstructor
+public class SeatContentionEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SeatContentionTracker seatContentionTracker;
+
+    @ReadOperation
+    public Map<String, Object> contention(@Nullable Integer limit) {
+        return seatContentionTracker.snapshot(Math.max(0, limit != null ? limit : DEFAULT_LIMIT));
+    }
+}
@@ -0,0 +1,72 @@
+package com.quicktix.showseat_service.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Component;
+
+import com.quicktix.showseat_service.config.AppConfig;
+
+/**
+ * Sampled, bounded record of the most contended shows and seats.
+ *
+ * Per-show or per-seat meter tags would create unbounded time series, so
+ * contention is kept here instead: each rejected lock is sampled with
+ * app.metrics.contention-sample-rate and counted in two fixed-size top-K
+ * sketches. Counts are scaled back up by the sample rate when read.
+ */
+@Component
+public class SeatContentionTracker {
+
+    private final double sampleRate;
+    private final int capacity;
+    private final SpaceSavingTopK<String> shows;
+    private final SpaceSavingTopK<SeatKey> seats;
+
+    public SeatContentionTracker(AppConfig appConfig) {
+        this.sampleRate = appConfig.getMetrics().getContentionSampleRate();
+        this.capacity = appConfig.getMetrics().getContentionTopK();
+        this.shows = new SpaceSavingTopK<>(capacity);
+        this.seats = new SpaceSavingTopK<>(capacity);
+    }
+
+    /**
+     * Records a lock attempt on the show rejected because of the given seats.
+     */
+    public void recordConflict(String showId, List<Integer> seatIndices) {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        shows.add(showId, 1);
+        for (Integer index : seatIndices) {
+            seats.add(new SeatKey(showId, index), 1);
+        }
+    }
+
+    public Map<String, Object> snapshot(int limit) {
+        int n = Math.max(0, Math.min(limit, capacity));
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("sampleRate", sampleRate);
+        snapshot.put("shows", shows.top(n).stream()
+                .map(entry -> entry(Map.of("showId", entry.key()), entry))
+                .toList());
+        snapshot.put("seats", seats.top(n).stream()
+                .map(entry -> entry(Map.of("showId", entry.key().showId(), "seatIndex", entry.key().seatIndex()),
+                        entry))
+                .toList());
+        return snapshot;
+    }
+
+    private Map<String, Object> entry(Map<String, Object> key, SpaceSavingTopK.Entry<?> entry) {
+        Map<String, Object> values = new LinkedHashMap<>(key);
+        values.put("conflicts", Math.round(entry.count() / sampleRate));
+        values.put("maxOvercount", Math.round(entry.error() / sampleRate));
+        return values;
+    }
+
+    private record SeatKey(String showId, int seatIndex) {
+    }
+}
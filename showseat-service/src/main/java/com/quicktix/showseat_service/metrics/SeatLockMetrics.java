@@ -0,0 +1,166 @@
+package com.quicktix.showseat_service.metrics;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.quicktix.showseat_service.enums.SeatOutcome;
+import com.quicktix.showseat_service.model.redis.SeatBatchResult;
+import com.quicktix.showseat_service.util.SeatLockStore;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Meters of the seat lock path, registered once.
+ *
+ * - seat.lock.request: end-to-end lock request latency, validation included (histogram)
+ * - seat.lock.script{op, store}: latency of each lock/confirm/unlock script call (histogram)
+ * - seat.lock.attempts / seat.lock.results{outcome}: lock outcomes; conflicts split into booked and locked
+ * - seat.lock.seats: seats requested per lock
+ * - seat.confirm.results{outcome}: confirm outcomes, per call
+ * - seat.unlock.released: seats released by unlocks
+ *
+ * Nothing is tagged by show; see {@link SeatContentionTracker} for that.
+ */
+@Component
+public class SeatLockMetrics {
+
+    private final SeatContentionTracker contentionTracker;
+
+    private final Timer lockRequest;
+    private final Timer lockScript;
+    private final Timer confirmScript;
+    private final Timer unlockScript;
+
+    private final Counter lockAttempts;
+    private final Counter lockSucceeded;
+    private final Counter lockConflictBooked;
+    private final Counter lockConflictLocked;
+    private final Counter lockFailed;
+    private final DistributionSummary seatsPerLock;
+
+    private final Counter confirmed;
+    private final Counter confirmedAfterExpiry;
+    private final Counter confirmConflictBooked;
+    private final Counter confirmConflictLocked;
+    private final Counter confirmNotLocked;
+    private final Counter confirmReplayed;
+    private final Counter seatsReleased;
+
+    public SeatLockMetrics(MeterRegistry meterRegistry, SeatLockStore seatLockStore,
+            SeatContentionTracker contentionTracker) {
+        this.contentionTracker = contentionTracker;
+        String store = seatLockStore.mode().name().toLowerCase();
+
+        this.lockRequest = Timer.builder("seat.lock.request")
+                .description("End-to-end seat lock request latency")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.lockScript = scriptTimer(meterRegistry, "lock", store);
+        this.confirmScript = scriptTimer(meterRegistry, "confirm", store);
+        this.unlockScript = scriptTimer(meterRegistry, "unlock", store);
+
+        this.lockAttempts = meterRegistry.counter("seat.lock.attempts");
+        this.lockSucceeded = meterRegistry.counter("seat.lock.results", "outcome", "success");
+        this.lockConflictBooked = meterRegistry.counter("seat.lock.results", "outcome", "booked");
+        this.lockConflictLocked = meterRegistry.counter("seat.lock.results", "outcome", "locked");
+        this.lockFailed = meterRegistry.counter("seat.lock.results", "outcome", "error");
+        this.seatsPerLock = DistributionSummary.builder("seat.lock.seats")
+                .description("Seats requested per lock attempt")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        this.confirmed = meterRegistry.counter("seat.confirm.results", "outcome", "confirmed");
+        this.confirmedAfterExpiry = meterRegistry.counter("seat.confirm.results", "outcome", "confirmed_after_expiry");
+        this.confirmConflictBooked = meterRegistry.counter("seat.confirm.results", "outcome", "booked");
+        this.confirmConflictLocked = meterRegistry.counter("seat.confirm.results", "outcome", "locked");
+        this.confirmNotLocked = meterRegistry.counter("seat.confirm.results", "outcome", "not_locked");
+        this.confirmReplayed = meterRegistry.counter("seat.confirm.results", "outcome", "replayed");
+        this.seatsReleased = meterRegistry.counter("seat.unlock.released");
+    }
+
+    private static Timer scriptTimer(MeterRegistry meterRegistry, String op, String store) {
+        return Timer.builder("seat.lock.script")
+                .description("Latency of seat lock store script calls")
+                .tags("op", op, "store", store)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public <T> T timeLockRequest(Supplier<T> call) {
+        return lockRequest.record(call);
+    }
+
+    /**
+     * End-to-end lock request timer, read by the waiting room to pace admissions
+     */
+    public Timer lockRequestTimer() {
+        return lockRequest;
+    }
+
+    public SeatBatchResult timeLock(Supplier<SeatBatchResult> call) {
+        return lockScript.record(call);
+    }
+
+    public SeatBatchResult timeConfirm(Supplier<SeatBatchResult> call) {
+        return confirmScript.record(call);
+    }
+
+    public SeatBatchResult timeUnlock(Supplier<SeatBatchResult> call) {
+        return unlockScript.record(call);
+    }
+
+    public void lockAttempted(int seatCount) {
+        lockAttempts.increment();
+        seatsPerLock.record(seatCount);
+    }
+
+    public void lockCompleted(String showId, SeatBatchResult result) {
+        if (result.isApplied()) {
+            lockSucceeded.increment();
+            return;
+        }
+
+        List<Integer> booked = result.indicesWith(SeatOutcome.ALREADY_BOOKED);
+        if (!booked.isEmpty()) {
+            lockConflictBooked.increment();
+            contentionTracker.recordConflict(showId, booked);
+        } else {
+            lockConflictLocked.increment();
+            contentionTracker.recordConflict(showId, result.indicesWith(SeatOutcome.LOCKED_BY_OTHER));
+        }
+    }
+
+    public void lockFailed() {
+        lockFailed.increment();
+    }
+
+    public void confirmCompleted(SeatBatchResult result) {
+        if (!result.isApplied()) {
+            if (!result.indicesWith(SeatOutcome.ALREADY_BOOKED).isEmpty()) {
+                confirmConflictBooked.increment();
+            } else if (!result.indicesWith(SeatOutcome.LOCKED_BY_OTHER).isEmpty()) {
+                confirmConflictLocked.increment();
+            } else {
+                confirmNotLocked.increment();
+            }
+            return;
+        }
+
+        if (!result.indicesWith(SeatOutcome.ALREADY_CONFIRMED).isEmpty()) {
+            confirmReplayed.increment();
+        } else if (result.indicesWith(SeatOutcome.CONFIRMED_AFTER_EXPIRY).isEmpty()) {
+            confirmed.increment();
+        } else {
+            confirmedAfterExpiry.increment();
+        }
+    }
+
+    public void seatsReleased(int count) {
+        seatsReleased.increment(count);
+    }
+}
@@ -0,0 +1,163 @@
+package com.quicktix.showseat_service.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Approximate heavy hitters in fixed memory (Space-Saving, Metwally et al.).
+ *
+ * At most {@code capacity} keys are tracked. A new key arriving when full
+ * replaces the key with the smallest count and inherits that count, which is
+ * kept as the entry's error bound: its true count lies in [count - error, count].
+ *
+ * Keys are hashed onto independent stripes, each a Space-Saving sketch with
+ * its own lock and a share of the capacity, so concurrent conflicts on
+ * different seats rarely wait on each other. Each stripe keeps its counters in
+ * a min-heap, making both increments and evictions O(log capacity). A key
+ * always lands on the same stripe, so any key seen more than
+ * stripeTotal/stripeCapacity times there is still guaranteed to be tracked.
+ */
+final class SpaceSavingTopK<K> {
+
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_STRIPE_CAPACITY = 8;
+
+    private final Stripe<K>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    SpaceSavingTopK(int capacity) {
+        int stripeCount = 1;
+        while (stripeCount < MAX_STRIPES && capacity / (stripeCount * 2) >= MIN_STRIPE_CAPACITY) {
+            stripeCount *= 2;
+        }
+        int stripeCapacity = Math.max(1, (capacity + stripeCount - 1) / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>(stripeCapacity);
+        }
+    }
+
+    void add(K key, long weight) {
+        stripeFor(key).add(key, weight);
+    }
+
+    /**
+     * @return up to n tracked keys, highest estimated count first
+     */
+    List<Entry<K>> top(int n) {
+        List<Entry<K>> entries = new ArrayList<>();
+        for (Stripe<K> stripe : stripes) {
+            stripe.collect(entries);
+        }
+        entries.sort(Comparator.comparingLong((Entry<K> entry) -> entry.count()).reversed());
+        return entries.size() > n ? new ArrayList<>(entries.subList(0, n)) : entries;
+    }
+
+    private Stripe<K> stripeFor(K key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return stripes[h & (stripes.length - 1)];
+    }
+
+    record Entry<K>(K key, long count, long error) {
+    }
+
+    /**
+     * One Space-Saving sketch: a key lookup map plus a binary min-heap on count.
+     */
+    private static final class Stripe<K> {
+
+        private final Map<K, Counter<K>> counters;
+        private final Counter<K>[] heap;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        Stripe(int capacity) {
+            this.counters = new HashMap<>(capacity * 2);
+            this.heap = new Counter[capacity];
+        }
+
+        synchronized void add(K key, long weight) {
+            Counter<K> counter = counters.get(key);
+            if (counter != null) {
+                counter.count += weight;
+                siftDown(counter.heapIndex);
+                return;
+            }
+            if (size < heap.length) {
+                counter = new Counter<>(key, weight, 0);
+                counter.heapIndex = size;
+                heap[size++] = counter;
+                counters.put(key, counter);
+                siftUp(counter.heapIndex);
+                return;
+            }
+
+            Counter<K> min = heap[0];
+            counters.remove(min.key);
+            counter = new Counter<>(key, min.count + weight, min.count);
+            counter.heapIndex = 0;
+            heap[0] = counter;
+            counters.put(key, counter);
+            siftDown(0);
+        }
+
+        synchronized void collect(List<Entry<K>> entries) {
+            for (int i = 0; i < size; i++) {
+                entries.add(new Entry<>(heap[i].key, heap[i].count, heap[i].error));
+            }
+        }
+
+        private void siftUp(int index) {
+            Counter<K> counter = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent].count <= counter.count) {
+                    break;
+                }
+                place(heap[parent], index);
+                index = parent;
+            }
+            place(counter, index);
+        }
+
+        private void siftDown(int index) {
+            Counter<K> counter = heap[index];
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                int right = child + 1;
+                if (right < size && heap[right].count < heap[child].count) {
+                    child = right;
+                }
+                if (counter.count <= heap[child].count) {
+                    break;
+                }
+                place(heap[child], index);
+                index = child;
+            }
+            place(counter, index);
+        }
+
+        private void place(Counter<K> counter, int index) {
+            heap[index] = counter;
+            counter.heapIndex = index;
+        }
+    }
+
+    private static final class Counter<K> {
+        final K key;
+        long count;
+        final long error;
+        int heapIndex;
+
+        Counter(K key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.quicktix.showseat_service.model.redis;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.quicktix.showseat_service.enums.SeatOutcome;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a batched, script-backed seat operation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatBatchResult {
+
+    /**
+     * Whether the operation was applied in Redis
+     */
+    private boolean applied;
+
+    /**
+     * Outcome per seat index. When a lock is rejected only the conflicting
+     * seats are reported; confirm and unlock report every seat.
+     */
+    @Builder.Default
+    private Map<Integer, SeatOutcome> outcomes = new LinkedHashMap<>();
+
+    public List<Integer> indicesWith(SeatOutcome outcome) {
+        List<Integer> indices = new ArrayList<>();
+        outcomes.forEach((index, value) -> {
+            if (value == outcome) {
+                indices.add(index);
+            }
+        });
+        return indices;
+    }
+}
@@ -3,33 +3,110 @@ package com.quicktix.showseat_service.model.redis;
 import java.io.Serializable;
 import java.util.Map;
 
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
+import lombok.Getter;
+
+/**
+ * Dense, immutable seat number <-> bitmap index mapping for a show.
+ *
+ * Index to seat is a plain array lookup; seat to index uses an open-addressed
+ * (linear probing) table sized to a power of two, so neither direction
+ * allocates or touches Redis once the mapping is built.
+ */
+@Getter
 public class SeatIndexMapping implements Serializable {
-    
+
     private static final long serialVersionUID = -5617577145434156723L;
 
-	/**
+    /**
      * Show ID
      */
-    private String showId;
-    
+    private final String showId;
+
     /**
-     * Map of seat number to bitmap index
-     * Example: {"A1": 0, "A2": 1, "B1": 2, ...}
+     * Reverse map: bitmap index to seat number
+     * Example: ["A1", "A2", "B1", ...]
      */
-    private Map<String, Integer> seatToIndex;
-    
+    private final String[] indexToSeat;
+
     /**
-     * Reverse map: bitmap index to seat number
-     * Example: {0: "A1", 1: "A2", 2: "B1", ...}
+     * Open-addressed seat number slots (null = empty slot)
+     */
+    private final String[] slotSeats;
+
+    /**
+     * Bitmap index stored alongside each occupied slot
+     */
+    private final int[] slotIndices;
+
+    private SeatIndexMapping(String showId, String[] indexToSeat) {
+        this.showId = showId;
+        this.indexToSeat = indexToSeat;
+
+        int capacity = Integer.highestOneBit(Math.max(indexToSeat.length, 1) * 2 - 1) << 1;
+        this.slotSeats = new String[capacity];
+        this.slotIndices = new int[capacity];
+
+        int mask = capacity - 1;
+        for (int index = 0; index < indexToSeat.length; index++) {
+            String seatNo = indexToSeat[index];
+            if (seatNo == null) {
+                continue;
+            }
+            int slot = spread(seatNo.hashCode()) & mask;
+            while (slotSeats[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            slotSeats[slot] = seatNo;
+            slotIndices[slot] = index;
+        }
+    }
+
+    /**
+     * Build a mapping from the seat number -> index form stored in SEAT_MAP:{showId}.
      */
-    private Map<Integer, String> indexToSeat;
-}
\ No newline at end of file
+    public static SeatIndexMapping of(String showId, Map<String, Integer> seatToIndex) {
+        int size = 0;
+        for (Integer index : seatToIndex.values()) {
+            size = Math.max(size, index + 1);
+        }
+
+        String[] indexToSeat = new String[size];
+        seatToIndex.forEach((seatNo, index) -> indexToSeat[index] = seatNo);
+
+        return new SeatIndexMapping(showId, indexToSeat);
+    }
+
+    /**
+     * @return bitmap index of the seat, or -1 if the seat is not part of the show
+     */
+    public int indexOf(String seatNo) {
+        if (seatNo == null) {
+            return -1;
+        }
+        int mask = slotSeats.length - 1;
+        int slot = spread(seatNo.hashCode()) & mask;
+        String candidate;
+        while ((candidate = slotSeats[slot]) != null) {
+            if (candidate.equals(seatNo)) {
+                return slotIndices[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @return seat number at the bitmap index, or null if out of range
+     */
+    public String seatAt(int index) {
+        return index >= 0 && index < indexToSeat.length ? indexToSeat[index] : null;
+    }
+
+    public int size() {
+        return indexToSeat.length;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -1,9 +1,12 @@
 package com.quicktix.showseat_service.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -12,7 +15,7 @@ import com.quicktix.showseat_service.enums.ShowStatus;
 import com.quicktix.showseat_service.model.document.Show;
 
 @Repository
-public interface ShowRepository extends MongoRepository<Show, String> {
+public interface ShowRepository extends MongoRepository<Show, String>, ShowRepositoryCustom {
 
     List<Show> findByMovieIdAndTheatreIdAndStartTimeBetween(
             Long movieId, Long theatreId, LocalDateTime startTime, LocalDateTime endTime);
@@ -38,4 +41,7 @@ public interface ShowRepository extends MongoRepository<Show, String> {
     List<Show> findByStatusAndStartTimeBefore(ShowStatus status, LocalDateTime dateTime);
 
     long countByMovieIdAndStatus(Long movieId, ShowStatus status);
+
+    Slice<Show> findByStatusInAndEndTimeAfter(Collection<ShowStatus> statuses, LocalDateTime dateTime,
+            Pageable pageable);
 }
@@ -0,0 +1,23 @@
+package com.quicktix.showseat_service.repository;
+
+/**
+ * Show updates that must not go through a read-modify-write of the whole document.
+ */
+public interface ShowRepositoryCustom {
+
+    /**
+     * Atomically moves seats from availableSeats to bookedSeats with one $inc
+     * (a negative count moves them back).
+     *
+     * @return false if the show does not exist
+     */
+    boolean incrementBookedSeats(String showId, int count);
+
+    /**
+     * Overwrites both counters, but only while bookedSeats still holds the
+     * value the caller based its correction on.
+     *
+     * @return false if the show changed in between (or is gone)
+     */
+    boolean repairSeatCounts(String showId, Integer expectedBookedSeats, int bookedSeats, int availableSeats);
+}
@@ -0,0 +1,42 @@
+package com.quicktix.showseat_service.repository;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.quicktix.showseat_service.model.document.Show;
+import com.mongodb.client.result.UpdateResult;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ShowRepositoryCustomImpl implements ShowRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean incrementBookedSeats(String showId, int count) {
+        Update update = new Update()
+                .inc("bookedSeats", count)
+                .inc("availableSeats", -count)
+                .currentDate("updatedAt");
+
+        UpdateResult result = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(showId)), update, Show.class);
+        return result.getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean repairSeatCounts(String showId, Integer expectedBookedSeats, int bookedSeats,
+            int availableSeats) {
+        Query query = Query.query(Criteria.where("id").is(showId)
+                .and("bookedSeats").is(expectedBookedSeats));
+        Update update = new Update()
+                .set("bookedSeats", bookedSeats)
+                .set("availableSeats", availableSeats)
+                .currentDate("updatedAt");
+
+        return mongoTemplate.updateFirst(query, update, Show.class).getMatchedCount() > 0;
+    }
+}
@@ -0,0 +1,77 @@
+package com.quicktix.showseat_service.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.quicktix.showseat_service.config.AppConfig;
+import com.quicktix.showseat_service.metrics.SeatLockMetrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Paces waiting room admissions from observed lock latency (AIMD).
+ *
+ * Each tick compares the mean seat.lock.request latency since the previous
+ * tick with the target. Under it, or with no locks at all, the admit rate
+ * grows by a fixed step; over it, the rate is cut by a factor. Admissions back
+ * off as soon as the lock path slows down and recover gradually.
+ *
+ * The rate applies to each open room, and every instance paces from its own
+ * latency; the instance that wins a room's tick admits at its rate.
+ */
+@Component
+public class AdmissionRateController {
+
+    private final AppConfig.WaitingRoom config;
+    private final Timer lockRequests;
+
+    private long lastCount;
+    private double lastTotalMs;
+    private volatile double admitPerSecond;
+
+    public AdmissionRateController(AppConfig appConfig, SeatLockMetrics seatLockMetrics,
+            MeterRegistry meterRegistry) {
+        this.config = appConfig.getWaitingRoom();
+        this.lockRequests = seatLockMetrics.lockRequestTimer();
+        this.admitPerSecond = config.getInitialAdmitPerSecond();
+
+        Gauge.builder("waiting.room.admit.rate", this, AdmissionRateController::admitPerSecond)
+                .description("Waiting room admissions per second, per open room")
+                .register(meterRegistry);
+    }
+
+    public double admitPerSecond() {
+        return admitPerSecond;
+    }
+
+    /**
+     * Moves the rate for the tick that just ended.
+     *
+     * @param active whether any room is open; with none the rate resets to
+     *               the initial one, so a new room does not start at the
+     *               rate left over from an old surge
+     * @return the rate for the next tick
+     */
+    public synchronized double adjust(boolean active) {
+        long count = lockRequests.count();
+        double totalMs = lockRequests.totalTime(TimeUnit.MILLISECONDS);
+        long calls = count - lastCount;
+        double meanMs = calls > 0 ? (totalMs - lastTotalMs) / calls : 0;
+        lastCount = count;
+        lastTotalMs = totalMs;
+
+        if (!active) {
+            admitPerSecond = config.getInitialAdmitPerSecond();
+        } else if (meanMs > config.getTargetLockLatencyMs()) {
+            admitPerSecond = Math.max(config.getMinAdmitPerSecond(),
+                    admitPerSecond * config.getAdmitDecreaseFactor());
+        } else {
+            admitPerSecond = Math.min(config.getMaxAdmitPerSecond(),
+                    admitPerSecond + config.getAdmitIncreasePerTick());
+        }
+        return admitPerSecond;
+    }
+}
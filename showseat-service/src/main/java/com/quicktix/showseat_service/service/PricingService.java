@@ -0,0 +1,18 @@
+package com.quicktix.showseat_service.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+public interface PricingService {
+
+    /**
+     * Prices the given seats of a show. Seats whose tier has no price map to null.
+     */
+    Map<String, BigDecimal> getSeatPrices(String showId, List<String> seatNumbers);
+
+    /**
+     * Prices seats across many shows in one call. Unknown shows are left out of the result.
+     */
+    Map<String, Map<String, BigDecimal>> quoteSeatPrices(Map<String, List<String>> seatsByShow);
+}
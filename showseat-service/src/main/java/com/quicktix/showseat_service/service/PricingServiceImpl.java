@@ -0,0 +1,93 @@
+package com.quicktix.showseat_service.service;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.quicktix.showseat_service.exception.ShowNotFoundException;
+import com.quicktix.showseat_service.model.document.Pricing;
+import com.quicktix.showseat_service.model.document.Show;
+import com.quicktix.showseat_service.util.LayoutIndex;
+import com.quicktix.showseat_service.util.LayoutIndexCache;
+import com.quicktix.showseat_service.util.PriceTableCache;
+import com.quicktix.showseat_service.util.SeatLayoutCache;
+import com.quicktix.showseat_service.util.ShowCache;
+import com.quicktix.showseat_service.util.ShowPriceTable;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PricingServiceImpl implements PricingService {
+
+    private final ShowCache showCache;
+    private final SeatLayoutCache layoutCache;
+    private final LayoutIndexCache layoutIndexCache;
+    private final PriceTableCache priceTableCache;
+
+    @Override
+    public Map<String, BigDecimal> getSeatPrices(String showId, List<String> seatNumbers) {
+        ShowPriceTable table = priceTableCache.get(showId, this::buildPriceTable);
+        if (table == null) {
+            throw new ShowNotFoundException("Show not found: " + showId);
+        }
+        return price(table, seatNumbers);
+    }
+
+    @Override
+    public Map<String, Map<String, BigDecimal>> quoteSeatPrices(Map<String, List<String>> seatsByShow) {
+        Map<String, Map<String, BigDecimal>> quotes = new LinkedHashMap<>();
+        seatsByShow.forEach((showId, seatNumbers) -> {
+            ShowPriceTable table = priceTableCache.get(showId, this::buildPriceTable);
+            if (table == null) {
+                log.warn("Skipping price quote for unknown show {}", showId);
+                return;
+            }
+            quotes.put(showId, price(table, seatNumbers));
+        });
+        return quotes;
+    }
+
+    private Map<String, BigDecimal> price(ShowPriceTable table, List<String> seatNumbers) {
+        Map<String, BigDecimal> seatPrices = new HashMap<>();
+        if (seatNumbers != null) {
+            for (String seatNumber : seatNumbers) {
+                seatPrices.put(seatNumber, table.priceOf(seatNumber));
+            }
+        }
+        return seatPrices;
+    }
+
+    private ShowPriceTable buildPriceTable(String showId) {
+        Show show = showCache.findById(showId).orElse(null);
+        if (show == null) {
+            return null;
+        }
+
+        Pricing pricing = show.getPricing();
+        if (pricing == null) {
+            log.warn("Show {} has no pricing configured, using defaults", showId);
+            pricing = Pricing.builder()
+                    .silver(BigDecimal.valueOf(150))
+                    .gold(BigDecimal.valueOf(250))
+                    .platinum(BigDecimal.valueOf(350))
+                    .diamond(BigDecimal.valueOf(500))
+                    .build();
+        }
+
+        LayoutIndex layoutIndex = layoutCache.findById(show.getLayoutId())
+                .map(layoutIndexCache::get)
+                .orElse(null);
+        if (layoutIndex == null) {
+            log.warn("Layout {} of show {} not found, pricing by row letter", show.getLayoutId(), showId);
+        }
+
+        return ShowPriceTable.build(showId, pricing, layoutIndex);
+    }
+}
@@ -1,11 +1,24 @@
 package com.quicktix.showseat_service.service;
 
+import java.util.List;
+
 import com.quicktix.showseat_service.dto.response.SeatAvailabilityResponse;
+import com.quicktix.showseat_service.dto.response.SeatAvailabilitySummary;
 
 public interface SeatAvailabilityService {
 
     SeatAvailabilityResponse getSeatAvailability(String showId);
 
+    /**
+     * Seat counters only, from BITCOUNT and the lock store's lock count.
+     */
+    SeatAvailabilitySummary getAvailabilitySummary(String showId);
+
+    /**
+     * Counters for many shows in a fixed number of round trips. Unknown shows are left out.
+     */
+    List<SeatAvailabilitySummary> getAvailabilitySummaries(List<String> showIds);
+
     boolean isSeatAvailable(String showId, String seatNo);
 
     /**
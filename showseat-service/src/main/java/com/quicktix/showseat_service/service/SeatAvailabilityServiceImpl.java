@@ -1,21 +1,26 @@
 package com.quicktix.showseat_service.service;
 
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
+import com.quicktix.showseat_service.config.AppConfig;
 import com.quicktix.showseat_service.dto.response.SeatAvailabilityResponse;
+import com.quicktix.showseat_service.dto.response.SeatAvailabilitySummary;
 import com.quicktix.showseat_service.enums.SeatStatus;
 import com.quicktix.showseat_service.exception.LayoutNotFoundException;
 import com.quicktix.showseat_service.exception.ShowNotFoundException;
-import com.quicktix.showseat_service.model.document.Cell;
 import com.quicktix.showseat_service.model.document.SeatLayout;
 import com.quicktix.showseat_service.model.document.Show;
-import com.quicktix.showseat_service.repository.SeatLayoutRepository;
-import com.quicktix.showseat_service.repository.ShowRepository;
+import com.quicktix.showseat_service.util.LayoutIndex;
+import com.quicktix.showseat_service.util.LayoutIndexCache;
 import com.quicktix.showseat_service.util.RedisBitmapUtil;
+import com.quicktix.showseat_service.util.SeatLayoutCache;
+import com.quicktix.showseat_service.util.ShowCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,42 +30,106 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SeatAvailabilityServiceImpl implements SeatAvailabilityService {
 
-    private final ShowRepository showRepository;
-    private final SeatLayoutRepository layoutRepository;
+    private final ShowCache showCache;
+    private final SeatLayoutCache layoutCache;
     private final RedisBitmapUtil redisBitmapUtil;
+    private final LayoutIndexCache layoutIndexCache;
+    private final AppConfig appConfig;
+
+    private static final SeatStatus[] SEAT_STATUSES = SeatStatus.values();
 
     @Override
     public SeatAvailabilityResponse getSeatAvailability(String showId) {
-        Show show = showRepository.findById(showId)
+        Show show = showCache.findById(showId)
                 .orElseThrow(() -> new ShowNotFoundException("Show not found: " + showId));
 
-        SeatLayout layout = layoutRepository.findById(show.getLayoutId())
+        SeatLayout layout = layoutCache.findById(show.getLayoutId())
                 .orElseThrow(() -> new LayoutNotFoundException("Layout not found: " + show.getLayoutId()));
 
-        Map<String, SeatStatus> seatStatusMap = buildSeatStatusMap(showId, layout);
-
-        long availableCount = seatStatusMap.values().stream()
-                .filter(status -> status == SeatStatus.AVAILABLE)
-                .count();
+        LayoutIndex layoutIndex = layoutIndexCache.get(layout);
+        byte[] statuses = redisBitmapUtil.getSeatStatuses(showId, layoutIndex.totalSeats());
 
-        long bookedCount = seatStatusMap.values().stream()
-                .filter(status -> status == SeatStatus.BOOKED)
-                .count();
+        Map<String, SeatStatus> seatStatusMap = buildSeatStatusMap(layoutIndex, statuses);
 
-        long lockedCount = seatStatusMap.values().stream()
-                .filter(status -> status == SeatStatus.LOCKED)
-                .count();
+        int[] counts = new int[SEAT_STATUSES.length];
+        for (byte status : statuses) {
+            counts[status]++;
+        }
+        int availableCount = counts[SeatStatus.AVAILABLE.ordinal()];
+        int bookedCount = counts[SeatStatus.BOOKED.ordinal()];
+        int lockedCount = counts[SeatStatus.LOCKED.ordinal()];
 
         return SeatAvailabilityResponse.builder()
                 .showId(showId)
                 .totalSeats(layout.getTotalSeats())
-                .availableSeats((int) availableCount)
-                .bookedSeats((int) bookedCount)
-                .lockedSeats((int) lockedCount)
+                .availableSeats(availableCount)
+                .bookedSeats(bookedCount)
+                .lockedSeats(lockedCount)
                 .seatStatusMap(seatStatusMap)
                 .build();
     }
 
+    @Override
+    public SeatAvailabilitySummary getAvailabilitySummary(String showId) {
+        List<SeatAvailabilitySummary> summaries = getAvailabilitySummaries(List.of(showId));
+        if (summaries.isEmpty()) {
+            throw new ShowNotFoundException("Show not found: " + showId);
+        }
+        return summaries.get(0);
+    }
+
+    @Override
+    public List<SeatAvailabilitySummary> getAvailabilitySummaries(List<String> showIds) {
+        List<String> distinctIds = showIds.stream().distinct().toList();
+        int maxShows = appConfig.getShow().getMaxSummaryShows();
+        if (distinctIds.size() > maxShows) {
+            throw new IllegalArgumentException("Cannot summarize more than " + maxShows + " shows in one call");
+        }
+
+        Map<String, Show> shows = showCache.findAllById(distinctIds);
+
+        List<String> found = new ArrayList<>(shows.size());
+        List<Integer> totals = new ArrayList<>(shows.size());
+        for (String showId : distinctIds) {
+            Show show = shows.get(showId);
+            if (show == null) {
+                log.warn("Skipping availability summary for unknown show {}", showId);
+                continue;
+            }
+            SeatLayout layout = layoutCache.findById(show.getLayoutId()).orElse(null);
+            if (layout == null) {
+                log.warn("Skipping availability summary for show {}: layout {} not found", showId,
+                        show.getLayoutId());
+                continue;
+            }
+            found.add(showId);
+            totals.add(layoutIndexCache.get(layout).totalSeats());
+        }
+        if (found.isEmpty()) {
+            return List.of();
+        }
+
+        int[] totalSeats = totals.stream().mapToInt(Integer::intValue).toArray();
+        long[] booked = redisBitmapUtil.countBookedSeats(found);
+        long[] locked = redisBitmapUtil.countLockedSeats(found, totalSeats);
+
+        List<SeatAvailabilitySummary> summaries = new ArrayList<>(found.size());
+        for (int i = 0; i < found.size(); i++) {
+            int total = totalSeats[i];
+            int bookedCount = (int) Math.min(booked[i], total);
+            int lockedCount = (int) Math.min(locked[i], total - bookedCount);
+            summaries.add(SeatAvailabilitySummary.builder()
+                    .showId(found.get(i))
+                    .totalSeats(total)
+                    .availableSeats(total - bookedCount - lockedCount)
+                    .bookedSeats(bookedCount)
+                    .lockedSeats(lockedCount)
+                    .occupancyPercent(total > 0 ? (bookedCount + lockedCount) * 100 / total : 0)
+                    .build());
+        }
+        return summaries;
+    }
+
     @Override
     public boolean isSeatAvailable(String showId, String seatNo) {
         Integer index = redisBitmapUtil.getSeatIndex(showId, seatNo);
@@ -75,45 +144,32 @@ public class SeatAvailabilityServiceImpl implements SeatAvailabilityService {
 
     @Override
     public String getCompressedAvailability(String showId) {
-        Show show = showRepository.findById(showId)
+        Show show = showCache.findById(showId)
                 .orElseThrow(() -> new ShowNotFoundException("Show not found: " + showId));
 
-        SeatLayout layout = layoutRepository.findById(show.getLayoutId())
+        SeatLayout layout = layoutCache.findById(show.getLayoutId())
                 .orElseThrow(() -> new LayoutNotFoundException("Layout not found: " + show.getLayoutId()));
 
-        int totalSeats = layout.getTotalSeats();
+        int totalSeats = layoutIndexCache.get(layout).totalSeats();
         byte[] bitmask = redisBitmapUtil.getSeatStatusBitmask(showId, totalSeats);
 
         return Base64.getEncoder().encodeToString(bitmask);
     }
 
-    private Map<String, SeatStatus> buildSeatStatusMap(String showId, SeatLayout layout) {
-        Map<String, SeatStatus> statusMap = new HashMap<>();
-
-        for (var row : layout.getRows()) {
-            for (Cell cell : row.getCells()) {
-                if (cell.getSeatNo() != null && !cell.getSeatNo().isEmpty()) {
-                    Integer index = redisBitmapUtil.getSeatIndex(showId, cell.getSeatNo());
-
-                    if (index != null) {
-                        SeatStatus status = determineSeatStatus(showId, index);
-                        statusMap.put(cell.getSeatNo(), status);
-                    } else {
-                        log.warn("Seat {} in layout {} missing from Redis mapping", cell.getSeatNo(), layout.getId());
-                        statusMap.put(cell.getSeatNo(), SeatStatus.AVAILABLE);
-                    }
-                }
+    /**
+     * Status codes from the bulk scan are SeatStatus ordinals (0=AVAILABLE,
+     * 1=LOCKED, 2=BOOKED) indexed the same way as the layout index.
+     */
+    private Map<String, SeatStatus> buildSeatStatusMap(LayoutIndex layoutIndex, byte[] statuses) {
+        Map<String, SeatStatus> statusMap = new HashMap<>(layoutIndex.totalSeats() * 2);
+
+        for (int i = 0; i < layoutIndex.totalSeats(); i++) {
+            String seatNo = layoutIndex.seatAt(i);
+            if (seatNo != null) {
+                statusMap.put(seatNo, SEAT_STATUSES[statuses[i]]);
             }
         }
 
         return statusMap;
     }
-
-    private SeatStatus determineSeatStatus(String showId, Integer index) {
-        if (redisBitmapUtil.isSeatBooked(showId, index))
-            return SeatStatus.BOOKED;
-        if (redisBitmapUtil.isSeatLocked(showId, index))
-            return SeatStatus.LOCKED;
-        return SeatStatus.AVAILABLE;
-    }
 }
@@ -0,0 +1,124 @@
+package com.quicktix.showseat_service.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.quicktix.showseat_service.enums.ShowStatus;
+import com.quicktix.showseat_service.model.document.SeatLayout;
+import com.quicktix.showseat_service.model.document.Show;
+import com.quicktix.showseat_service.repository.ShowRepository;
+import com.quicktix.showseat_service.util.LayoutIndexCache;
+import com.quicktix.showseat_service.util.RedisBitmapUtil;
+import com.quicktix.showseat_service.util.SeatLayoutCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Repairs Show.bookedSeats / availableSeats from the availability bitmap,
+ * which is the source of truth for bookings.
+ *
+ * A confirm sets its bits before it increments the counters, so a show can
+ * look out of sync for a moment. Only drift seen unchanged on two passes in a
+ * row is repaired, and the repair is conditional on bookedSeats not having
+ * moved since it was read.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCountReconciler {
+
+    static final String REPAIRED_METRIC = "show.seat.counts.repaired";
+
+    private static final int PAGE_SIZE = 200;
+    private static final List<ShowStatus> OPEN_STATUSES =
+            List.of(ShowStatus.SCHEDULED, ShowStatus.RUNNING, ShowStatus.SUSPENDED);
+
+    private final ShowRepository showRepository;
+    private final SeatLayoutCache layoutCache;
+    private final LayoutIndexCache layoutIndexCache;
+    private final RedisBitmapUtil redisBitmapUtil;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Drift found on the previous pass, by show id
+     */
+    private Map<String, Drift> suspected = new HashMap<>();
+
+    @Scheduled(initialDelayString = "#{@appConfig.show.reconcileIntervalMs}",
+            fixedDelayString = "#{@appConfig.show.reconcileIntervalMs}")
+    public void reconcile() {
+        Map<String, Drift> seen = new HashMap<>();
+        int repaired = 0;
+
+        Pageable page = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+        Slice<Show> slice;
+        do {
+            slice = showRepository.findByStatusInAndEndTimeAfter(OPEN_STATUSES, LocalDateTime.now(), page);
+            repaired += reconcile(slice.getContent(), seen);
+            page = slice.nextPageable();
+        } while (slice.hasNext());
+
+        suspected = seen;
+        if (repaired > 0 || !seen.isEmpty()) {
+            log.info("Seat count reconciliation repaired {} shows, {} more under watch", repaired, seen.size());
+        }
+    }
+
+    private int reconcile(List<Show> shows, Map<String, Drift> seen) {
+        List<Show> checked = new ArrayList<>(shows.size());
+        List<Integer> totals = new ArrayList<>(shows.size());
+        for (Show show : shows) {
+            SeatLayout layout = layoutCache.findById(show.getLayoutId()).orElse(null);
+            if (layout != null) {
+                checked.add(show);
+                totals.add(layoutIndexCache.get(layout).totalSeats());
+            }
+        }
+        if (checked.isEmpty()) {
+            return 0;
+        }
+
+        long[] booked = redisBitmapUtil.countBookedSeats(checked.stream().map(Show::getId).toList());
+
+        int repaired = 0;
+        for (int i = 0; i < checked.size(); i++) {
+            Show show = checked.get(i);
+            int actualBooked = (int) booked[i];
+            int actualAvailable = totals.get(i) - actualBooked;
+            if (Objects.equals(show.getBookedSeats(), actualBooked)
+                    && Objects.equals(show.getAvailableSeats(), actualAvailable)) {
+                continue;
+            }
+
+            Drift drift = new Drift(show.getBookedSeats(), show.getAvailableSeats(), actualBooked);
+            if (!drift.equals(suspected.get(show.getId()))) {
+                seen.put(show.getId(), drift);
+                continue;
+            }
+
+            if (showRepository.repairSeatCounts(show.getId(), show.getBookedSeats(), actualBooked, actualAvailable)) {
+                repaired++;
+                meterRegistry.counter(REPAIRED_METRIC).increment();
+                log.warn("Repaired seat counts of show {}: booked {} -> {}, available {} -> {}", show.getId(),
+                        show.getBookedSeats(), actualBooked, show.getAvailableSeats(), actualAvailable);
+            }
+        }
+        return repaired;
+    }
+
+    private record Drift(Integer bookedSeats, Integer availableSeats, int actualBookedSeats) {
+    }
+}
@@ -16,6 +16,8 @@ import com.quicktix.showseat_service.model.document.Cell;
 import com.quicktix.showseat_service.model.document.Row;
 import com.quicktix.showseat_service.model.document.SeatLayout;
 import com.quicktix.showseat_service.repository.SeatLayoutRepository;
+import com.quicktix.showseat_service.util.LayoutIndexCache;
+import com.quicktix.showseat_service.util.SeatLayoutCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +29,8 @@ public class SeatLayoutServiceImpl implements SeatLayoutService {
 
     private final SeatLayoutRepository layoutRepository;
     private final SeatLayoutMapper layoutMapper;
+    private final SeatLayoutCache layoutCache;
+    private final LayoutIndexCache layoutIndexCache;
 
     @Override
     @Transactional
@@ -80,6 +84,7 @@ public class SeatLayoutServiceImpl implements SeatLayoutService {
 
         layout.setIsActive(false);
         SeatLayout updated = layoutRepository.save(layout);
+        layoutCache.invalidate(layoutId);
 
         log.info("Deactivated layout {}", layoutId);
         return layoutMapper.toResponse(updated);
@@ -93,6 +98,8 @@ public class SeatLayoutServiceImpl implements SeatLayoutService {
         }
 
         layoutRepository.deleteById(layoutId);
+        layoutCache.invalidate(layoutId);
+        layoutIndexCache.invalidate(layoutId);
         log.info("Deleted layout {}", layoutId);
     }
 
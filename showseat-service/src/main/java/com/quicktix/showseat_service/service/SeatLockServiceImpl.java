@@ -3,27 +3,30 @@ package com.quicktix.showseat_service.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
 import java.util.stream.Collectors;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import com.quicktix.showseat_service.broadcast.SeatUpdateBroadcaster;
 import com.quicktix.showseat_service.config.AppConfig;
 import com.quicktix.showseat_service.dto.request.ConfirmSeatsRequest;
 import com.quicktix.showseat_service.dto.request.LockSeatsRequest;
 import com.quicktix.showseat_service.dto.request.UnlockSeatsRequest;
 import com.quicktix.showseat_service.dto.response.LockSeatsResponse;
+import com.quicktix.showseat_service.enums.SeatOutcome;
+import com.quicktix.showseat_service.enums.SeatStatus;
 import com.quicktix.showseat_service.exception.LayoutNotFoundException;
 import com.quicktix.showseat_service.exception.SeatAlreadyBookedException;
 import com.quicktix.showseat_service.exception.SeatNotLockedException;
 import com.quicktix.showseat_service.exception.ShowNotFoundException;
+import com.quicktix.showseat_service.metrics.SeatLockMetrics;
 import com.quicktix.showseat_service.model.document.SeatLayout;
 import com.quicktix.showseat_service.model.document.Show;
-import com.quicktix.showseat_service.repository.SeatLayoutRepository;
-import com.quicktix.showseat_service.repository.ShowRepository;
+import com.quicktix.showseat_service.model.redis.SeatBatchResult;
+import com.quicktix.showseat_service.util.LayoutIndexCache;
 import com.quicktix.showseat_service.util.RedisBitmapUtil;
+import com.quicktix.showseat_service.util.SeatLayoutCache;
+import com.quicktix.showseat_service.util.ShowCache;
 import com.quicktix.showseat_service.validator.SeatValidator;
 import com.quicktix.showseat_service.validator.ShowValidator;
 
@@ -35,30 +38,38 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SeatLockServiceImpl implements SeatLockService {
 
-    private final ShowRepository showRepository;
-    private final SeatLayoutRepository layoutRepository;
+    private final ShowCache showCache;
+    private final SeatLayoutCache layoutCache;
+    private final LayoutIndexCache layoutIndexCache;
     private final RedisBitmapUtil redisBitmapUtil;
     private final SeatValidator seatValidator;
     private final ShowValidator showValidator;
     private final ShowService showService;
     private final AppConfig appConfig;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SeatUpdateBroadcaster seatUpdateBroadcaster;
+    private final SeatLockMetrics seatLockMetrics;
+    private final WaitingRoomService waitingRoomService;
 
     @Override
     public LockSeatsResponse lockSeats(LockSeatsRequest request) {
-        Show show = showRepository.findById(request.getShowId())
+        return seatLockMetrics.timeLockRequest(() -> doLockSeats(request));
+    }
+
+    private LockSeatsResponse doLockSeats(LockSeatsRequest request) {
+        Show show = showCache.findById(request.getShowId())
                 .orElseThrow(() -> new ShowNotFoundException("Show not found: " + request.getShowId()));
 
         showValidator.validateBookingAllowed(show);
+        waitingRoomService.checkAdmission(request.getShowId(), request.getUserId(), request.getAdmissionToken());
 
-        SeatLayout layout = layoutRepository.findById(show.getLayoutId())
+        SeatLayout layout = layoutCache.findById(show.getLayoutId())
                 .orElseThrow(() -> new LayoutNotFoundException("Layout not found: " + show.getLayoutId()));
 
         seatValidator.validateNoDuplicateSeats(request.getSeatNumbers());
         seatValidator.validateSeatCount(
                 request.getSeatNumbers(),
                 appConfig.getSeatLock().getMaxSeatsPerBooking());
-        seatValidator.validateSeatNumbers(layout, request.getSeatNumbers());
+        seatValidator.validateSeatNumbers(layoutIndexCache.get(layout), request.getSeatNumbers());
 
         List<Integer> seatIndices = convertToIndices(request.getShowId(), request.getSeatNumbers());
 
@@ -82,7 +93,7 @@ public class SeatLockServiceImpl implements SeatLockService {
 
         log.info("Lock seats result - Success: {}", lockedSeats.size());
 
-        broadcastUpdate(request.getShowId(), lockedSeats, "LOCKED", request.getUserId());
+        seatUpdateBroadcaster.publish(request.getShowId(), lockedIndices, SeatStatus.LOCKED);
 
         return LockSeatsResponse.builder()
                 .showId(request.getShowId())
@@ -97,7 +108,7 @@ public class SeatLockServiceImpl implements SeatLockService {
 
     @Override
     public void unlockSeats(UnlockSeatsRequest request) {
-        showRepository.findById(request.getShowId())
+        showCache.findById(request.getShowId())
                 .orElseThrow(() -> new ShowNotFoundException("Show not found: " + request.getShowId()));
 
         List<Integer> indices = convertToIndices(request.getShowId(), request.getSeatNumbers());
@@ -106,27 +117,29 @@ public class SeatLockServiceImpl implements SeatLockService {
             throw new IllegalArgumentException("No valid seat indices found for the provided seat numbers");
         }
 
-        int unlockedCount = redisBitmapUtil.unlockSeats(
+        SeatBatchResult result = redisBitmapUtil.unlockSeatsAtomic(
                 request.getShowId(),
                 indices,
                 request.getUserId(),
                 request.getSessionId());
 
-        if (unlockedCount == 0) {
+        List<Integer> released = result.indicesWith(SeatOutcome.RELEASED);
+
+        if (released.isEmpty()) {
             throw new SeatNotLockedException(
                     "No seats were unlocked. Seats are not locked by this user/session.");
         }
 
-        log.info("Unlocked {} seats for show {}", unlockedCount, request.getShowId());
+        log.info("Unlocked {} seats for show {}", released.size(), request.getShowId());
 
-        // Broadcast update
-        broadcastUpdate(request.getShowId(), request.getSeatNumbers(), "AVAILABLE", request.getUserId());
+        // Broadcast update for the seats that were actually released
+        seatUpdateBroadcaster.publish(request.getShowId(), released, SeatStatus.AVAILABLE);
     }
 
     @Override
     public void confirmSeats(ConfirmSeatsRequest request) {
         String showId = request.getShowId();
-        Show show = showRepository.findById(showId)
+        Show show = showCache.findById(showId)
                 .orElseThrow(() -> new ShowNotFoundException("Show not found: " + showId));
 
         List<Integer> indices = convertToIndices(request.getShowId(), request.getSeatNumbers());
@@ -135,96 +148,72 @@ public class SeatLockServiceImpl implements SeatLockService {
             throw new IllegalArgumentException("No valid seat indices found for the provided seat numbers");
         }
 
-        // Idempotency check: If booking is already processed, return success
-        // immediately
-        if (redisBitmapUtil.isBookingProcessed(String.valueOf(request.getBookingId()))) {
-            log.info("Booking {} already processed (idempotent retry). Returning success.", request.getBookingId());
-            return;
-        }
-
         // Strict validation causes issues if payment takes longer than TTL.
         // We relax validation: Allow confirm if (Locked by Us) OR (Expired AND
-        // Available)
-
-        for (Integer index : indices) {
-            boolean isLockedByUs = redisBitmapUtil.isSeatLockedByUser(showId, index, request.getUserId(),
-                    request.getSessionId());
-
-            if (isLockedByUs) {
-                continue; // Safe to confirm
-            }
+        // Available). Ownership check and booking happen in one script call,
+        // so either every seat is booked or none is. The same call marks the
+        // booking processed, so a retried confirm is recognised as a replay
+        // even if this instance failed right after booking the seats.
+        SeatBatchResult result = redisBitmapUtil.confirmSeatsAtomic(
+                showId,
+                indices,
+                request.getUserId(),
+                request.getSessionId(),
+                true,
+                request.getBookingId() != null ? request.getBookingId().toString() : null);
 
-            // If not locked by us, check if it's taken by someone else
-            if (redisBitmapUtil.isSeatBooked(showId, index)) {
-                String seatNo = redisBitmapUtil.getSeatNumber(showId, index);
+        if (!result.isApplied()) {
+            List<Integer> booked = result.indicesWith(SeatOutcome.ALREADY_BOOKED);
+            if (!booked.isEmpty()) {
                 throw new SeatAlreadyBookedException(
-                        "Seat " + (seatNo != null ? seatNo : index) + " is already booked");
-            }
-
-            if (redisBitmapUtil.isSeatLocked(showId, index)) {
-                String seatNo = redisBitmapUtil.getSeatNumber(showId, index);
-                throw new SeatNotLockedException(
-                        "Seat " + (seatNo != null ? seatNo : index) + " is locked by another user");
+                        redisBitmapUtil.describeSeats(showId, booked) + " already booked");
             }
-
-            // If neither booked nor locked by others, it implies our lock expired but seat
-            // is safe to take.
-            log.info("Seat {} lock expired but still available. Allowing confirmation for user {}", index,
-                    request.getUserId());
+            throw new SeatNotLockedException(
+                    redisBitmapUtil.describeSeats(showId, result.indicesWith(SeatOutcome.LOCKED_BY_OTHER))
+                            + " locked by another user");
         }
 
-        for (Integer index : indices) {
-            if (redisBitmapUtil.isSeatBooked(request.getShowId(), index)) {
-                String seatNo = redisBitmapUtil.getSeatNumber(request.getShowId(), index);
-                throw new SeatAlreadyBookedException("Seat " + seatNo + " is already booked");
-            }
+        if (!result.indicesWith(SeatOutcome.ALREADY_CONFIRMED).isEmpty()) {
+            log.info("Booking {} already processed (idempotent retry). Returning success.", request.getBookingId());
+            return;
         }
 
-        redisBitmapUtil.confirmBooking(
-                request.getShowId(),
-                indices,
-                request.getUserId(),
-                request.getSessionId());
+        List<Integer> expired = result.indicesWith(SeatOutcome.CONFIRMED_AFTER_EXPIRY);
+        if (!expired.isEmpty()) {
+            log.info("Seats {} lock expired but still available. Allowed confirmation for user {}", expired,
+                    request.getUserId());
+        }
 
         showService.updateAvailableSeats(
                 request.getShowId(),
-                request.getSeatNumbers().size());
+                indices.size());
 
         log.info("Confirm seats completed for show {}, booking {}", request.getShowId(), request.getBookingId());
 
-        broadcastUpdate(request.getShowId(), request.getSeatNumbers(), "BOOKED", request.getUserId());
-
-        // Mark booking as processed to ensure idempotency
-        redisBitmapUtil.markBookingProcessed(String.valueOf(request.getBookingId()));
+        seatUpdateBroadcaster.publish(request.getShowId(), indices, SeatStatus.BOOKED);
     }
 
     @Override
     public void expireLocks(String showId) {
+        // Collect the locked seats first (one bulk scan) so subscribers can be
+        // told which seats came free
+        List<Integer> locked = new ArrayList<>();
+        showCache.findById(showId)
+                .flatMap(show -> layoutCache.findById(show.getLayoutId()))
+                .ifPresent(layout -> {
+                    byte[] statuses = redisBitmapUtil.getSeatStatuses(
+                            showId, layoutIndexCache.get(layout).totalSeats());
+                    for (int i = 0; i < statuses.length; i++) {
+                        if (statuses[i] == SeatStatus.LOCKED.ordinal()) {
+                            locked.add(i);
+                        }
+                    }
+                });
+
         redisBitmapUtil.clearLocksOnly(showId);
         log.info("Expired all locks for show {}", showId);
-        // We might want to broadcast a full refresh or just expire event
-        // For now, simpler to not broadcast blindly or clients can't update without
-        // list
-        // Ideally we fetch all locked seats before expiring, but that's heavy.
-        // Client side timeouts or refresh on error handle this usually.
-    }
 
-    private void broadcastUpdate(String showId, List<String> seats, String status, Long userId) {
-        if (seats == null || seats.isEmpty())
-            return;
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("showId", showId);
-        payload.put("seats", seats);
-        payload.put("status", status);
-        payload.put("userId", userId);
-        payload.put("timestamp", System.currentTimeMillis());
-
-        try {
-            messagingTemplate.convertAndSend("/topic/show/" + showId, payload);
-            log.debug("Broadcasted {} update for seats: {}", status, seats);
-        } catch (Exception e) {
-            log.error("Failed to broadcast seat update", e);
-        }
+        seatUpdateBroadcaster.publish(showId, locked, SeatStatus.AVAILABLE);
     }
 
     private List<Integer> convertToIndices(String showId, List<String> seatNumbers) {
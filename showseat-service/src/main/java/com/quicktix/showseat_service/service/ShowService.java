@@ -11,6 +11,8 @@ public interface ShowService {
     
     ShowResponse createShow(CreateShowRequest request, Long createdBy);
     
+    List<ShowResponse> createShows(List<CreateShowRequest> requests, Long createdBy);
+    
     ShowResponse getShowById(String showId);
     
     List<ShowResponse> getShowsByMovie(Long movieId);
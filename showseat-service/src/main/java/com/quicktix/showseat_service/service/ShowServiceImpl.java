@@ -2,14 +2,18 @@ package com.quicktix.showseat_service.service;
 
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.quicktix.showseat_service.broadcast.SeatUpdateBroadcaster;
+import com.quicktix.showseat_service.config.AppConfig;
 import com.quicktix.showseat_service.dto.request.CreateShowRequest;
 import com.quicktix.showseat_service.dto.response.ShowResponse;
 import com.quicktix.showseat_service.enums.ShowStatus;
@@ -20,7 +24,10 @@ import com.quicktix.showseat_service.model.document.SeatLayout;
 import com.quicktix.showseat_service.model.document.Show;
 import com.quicktix.showseat_service.repository.SeatLayoutRepository;
 import com.quicktix.showseat_service.repository.ShowRepository;
+import com.quicktix.showseat_service.util.LayoutIndexCache;
+import com.quicktix.showseat_service.util.PriceTableCache;
 import com.quicktix.showseat_service.util.RedisBitmapUtil;
+import com.quicktix.showseat_service.util.ShowCache;
 import com.quicktix.showseat_service.validator.ShowValidator;
 
 import lombok.RequiredArgsConstructor;
@@ -36,6 +43,11 @@ public class ShowServiceImpl implements ShowService {
     private final ShowMapper showMapper;
     private final ShowValidator showValidator;
     private final RedisBitmapUtil redisBitmapUtil;
+    private final AppConfig appConfig;
+    private final ShowCache showCache;
+    private final LayoutIndexCache layoutIndexCache;
+    private final PriceTableCache priceTableCache;
+    private final SeatUpdateBroadcaster seatUpdateBroadcaster;
 
     @Override
     @Transactional
@@ -57,6 +69,58 @@ public class ShowServiceImpl implements ShowService {
         return showMapper.toResponse(savedShow);
     }
 
+    @Override
+    @Transactional
+    public List<ShowResponse> createShows(List<CreateShowRequest> requests, Long createdBy) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one show is required");
+        }
+        int maxShows = appConfig.getShow().getMaxShowsPerBatch();
+        if (requests.size() > maxShows) {
+            throw new IllegalArgumentException("Cannot create more than " + maxShows + " shows in one batch");
+        }
+
+        for (CreateShowRequest request : requests) {
+            showValidator.validateShowTiming(request);
+            showValidator.validateNoOverlap(request);
+        }
+        showValidator.validateNoOverlapWithinBatch(requests);
+
+        Set<String> layoutIds = requests.stream()
+                .map(CreateShowRequest::getLayoutId)
+                .collect(Collectors.toSet());
+        Map<String, SeatLayout> layouts = new HashMap<>();
+        layoutRepository.findAllById(layoutIds).forEach(layout -> layouts.put(layout.getId(), layout));
+
+        List<Show> shows = new ArrayList<>(requests.size());
+        for (CreateShowRequest request : requests) {
+            SeatLayout layout = layouts.get(request.getLayoutId());
+            if (layout == null) {
+                throw new LayoutNotFoundException("Layout not found: " + request.getLayoutId());
+            }
+            shows.add(showMapper.toEntity(request, layout.getTotalSeats(), createdBy));
+        }
+
+        List<Show> savedShows = showRepository.saveAll(shows);
+
+        // One pipelined Redis pass per layout, with the seat map built once
+        Map<String, List<String>> showIdsByLayout = new HashMap<>();
+        for (Show show : savedShows) {
+            showIdsByLayout.computeIfAbsent(show.getLayoutId(), id -> new ArrayList<>()).add(show.getId());
+        }
+        showIdsByLayout.forEach((layoutId, showIds) -> {
+            SeatLayout layout = layouts.get(layoutId);
+            redisBitmapUtil.initializeShows(showIds, layout.getTotalSeats(),
+                    layoutIndexCache.get(layout).toSeatMapping());
+        });
+
+        log.info("Created {} shows across {} layouts", savedShows.size(), showIdsByLayout.size());
+
+        return savedShows.stream()
+                .map(showMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public ShowResponse getShowById(String showId) {
         Show show = showRepository.findById(showId)
@@ -102,6 +166,7 @@ public class ShowServiceImpl implements ShowService {
         
         show.setStatus(status);
         Show updated = showRepository.save(show);
+        showCache.invalidate(showId);
         
         log.info("Updated show {} status to {}", showId, status);
         return showMapper.toResponse(updated);
@@ -116,6 +181,9 @@ public class ShowServiceImpl implements ShowService {
         
         redisBitmapUtil.clearShowData(showId);
         showRepository.deleteById(showId);
+        showCache.invalidate(showId);
+        priceTableCache.invalidate(showId);
+        seatUpdateBroadcaster.evict(showId);
         
         log.info("Deleted show {}", showId);
     }
@@ -123,38 +191,17 @@ public class ShowServiceImpl implements ShowService {
     @Override
     @Transactional
     public void updateAvailableSeats(String showId, int bookedCount) {
-        Show show = showRepository.findById(showId)
-                .orElseThrow(() -> new ShowNotFoundException("Show not found: " + showId));
-        
-        show.setBookedSeats(show.getBookedSeats() + bookedCount);
-        show.setAvailableSeats(show.getAvailableSeats() - bookedCount);
-        
-        showRepository.save(show);
-        log.debug("Updated seat counts for show {}: booked={}, available={}", 
-                showId, show.getBookedSeats(), show.getAvailableSeats());
+        // Single $inc: concurrent confirms on the same show never lose an update
+        if (!showRepository.incrementBookedSeats(showId, bookedCount)) {
+            throw new ShowNotFoundException("Show not found: " + showId);
+        }
+        log.debug("Moved {} seats to booked for show {}", bookedCount, showId);
     }
 
     private void initializeShowSeats(Show show, SeatLayout layout) {
-        redisBitmapUtil.initializeSeatAvailability(show.getId(), layout.getTotalSeats());
-        
-        Map<String, Integer> seatMapping = buildSeatMapping(layout);
-        redisBitmapUtil.storeSeatMapping(show.getId(), seatMapping);
+        Map<String, Integer> seatMapping = layoutIndexCache.get(layout).toSeatMapping();
+        redisBitmapUtil.initializeShow(show.getId(), layout.getTotalSeats(), seatMapping);
         
         log.debug("Initialized {} seats for show {}", layout.getTotalSeats(), show.getId());
     }
-
-    private Map<String, Integer> buildSeatMapping(SeatLayout layout) {
-        Map<String, Integer> mapping = new HashMap<>();
-        int index = 0;
-        
-        for (var row : layout.getRows()) {
-            for (var cell : row.getCells()) {
-                if (cell.getSeatNo() != null && !cell.getSeatNo().isEmpty()) {
-                    mapping.put(cell.getSeatNo(), index++);
-                }
-            }
-        }
-        
-        return mapping;
-    }
 }
\ No newline at end of file
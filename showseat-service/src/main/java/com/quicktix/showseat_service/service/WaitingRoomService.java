@@ -0,0 +1,20 @@
+package com.quicktix.showseat_service.service;
+
+import com.quicktix.showseat_service.dto.response.WaitingRoomStatus;
+
+public interface WaitingRoomService {
+
+    void openRoom(String showId);
+
+    void closeRoom(String showId);
+
+    WaitingRoomStatus join(String showId, Long userId);
+
+    WaitingRoomStatus getStatus(String showId, Long userId);
+
+    /**
+     * Throws AdmissionRequiredException unless the show has no open room or
+     * the token is the user's live admission.
+     */
+    void checkAdmission(String showId, Long userId, String admissionToken);
+}
@@ -0,0 +1,219 @@
+package com.quicktix.showseat_service.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.quicktix.showseat_service.broadcast.WaitingRoomBroadcaster;
+import com.quicktix.showseat_service.config.AppConfig;
+import com.quicktix.showseat_service.dto.response.WaitingRoomFrame;
+import com.quicktix.showseat_service.dto.response.WaitingRoomStatus;
+import com.quicktix.showseat_service.enums.WaitingRoomState;
+import com.quicktix.showseat_service.exception.AdmissionRequiredException;
+import com.quicktix.showseat_service.exception.ShowNotFoundException;
+import com.quicktix.showseat_service.util.ShowCache;
+import com.quicktix.showseat_service.util.WaitingRoomStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Virtual waiting rooms for oversubscribed shows.
+ *
+ * While a show's room is open only users holding an admission token can lock
+ * its seats. Users join a FIFO in Redis; every tick the head of each queue is
+ * admitted at the rate set by {@link AdmissionRateController}, and the queue
+ * progress is pushed to subscribers of /topic/show/{showId}.
+ *
+ * The set of open rooms is kept per instance and refreshed every tick, so a
+ * room opened through another instance starts gating locks here within one
+ * tick.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomServiceImpl implements WaitingRoomService {
+
+    private final WaitingRoomStore waitingRoomStore;
+    private final AdmissionRateController admissionRateController;
+    private final WaitingRoomBroadcaster waitingRoomBroadcaster;
+    private final ShowCache showCache;
+    private final AppConfig appConfig;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Set<String> openRooms = Set.of();
+
+    /**
+     * Fractional admissions carried to the next tick, by show id
+     */
+    private final Map<String, Double> credit = new ConcurrentHashMap<>();
+
+    @Override
+    public void openRoom(String showId) {
+        if (!appConfig.getWaitingRoom().isEnabled()) {
+            throw new IllegalArgumentException("Waiting rooms are disabled");
+        }
+        showCache.findById(showId)
+                .orElseThrow(() -> new ShowNotFoundException("Show not found: " + showId));
+
+        waitingRoomStore.open(showId);
+        Set<String> rooms = new HashSet<>(openRooms);
+        rooms.add(showId);
+        openRooms = rooms;
+
+        log.info("Opened waiting room for show {}", showId);
+    }
+
+    @Override
+    public void closeRoom(String showId) {
+        waitingRoomStore.close(showId);
+        Set<String> rooms = new HashSet<>(openRooms);
+        rooms.remove(showId);
+        openRooms = rooms;
+        credit.remove(showId);
+
+        log.info("Closed waiting room for show {}", showId);
+    }
+
+    @Override
+    public WaitingRoomStatus join(String showId, Long userId) {
+        if (!isOpen(showId)) {
+            return status(showId, userId, WaitingRoomState.CLOSED).build();
+        }
+
+        WaitingRoomStore.Place place = waitingRoomStore.join(
+                showId, userId, appConfig.getWaitingRoom().getQueueTtlSeconds() * 1000L);
+        return toStatus(showId, userId, place);
+    }
+
+    @Override
+    public WaitingRoomStatus getStatus(String showId, Long userId) {
+        if (!isOpen(showId)) {
+            return status(showId, userId, WaitingRoomState.CLOSED).build();
+        }
+
+        WaitingRoomStore.Place place = waitingRoomStore.find(showId, userId);
+        if (place == null) {
+            return status(showId, userId, WaitingRoomState.NOT_QUEUED).build();
+        }
+        return toStatus(showId, userId, place);
+    }
+
+    @Override
+    public void checkAdmission(String showId, Long userId, String admissionToken) {
+        if (!isOpen(showId)) {
+            return;
+        }
+
+        if (admissionToken == null || admissionToken.isBlank()) {
+            throw new AdmissionRequiredException(
+                    "Show " + showId + " has a waiting room. Join the queue to get an admission token.");
+        }
+
+        WaitingRoomStore.Place admission = waitingRoomStore.findAdmission(showId, userId);
+        if (admission == null
+                || !admission.token().equals(admissionToken)
+                || admission.expiresAtMs() <= System.currentTimeMillis()) {
+            throw new AdmissionRequiredException("Admission token is invalid or expired for show " + showId);
+        }
+    }
+
+    private boolean isOpen(String showId) {
+        return appConfig.getWaitingRoom().isEnabled() && openRooms.contains(showId);
+    }
+
+    /**
+     * Admits the head of every open room and sends its progress frame.
+     */
+    @Scheduled(fixedDelayString = "#{@appConfig.waitingRoom.tickIntervalMs}")
+    public void tick() {
+        if (!appConfig.getWaitingRoom().isEnabled()) {
+            return;
+        }
+
+        Set<String> rooms;
+        try {
+            rooms = waitingRoomStore.openRooms();
+        } catch (Exception e) {
+            log.error("Failed to read open waiting rooms", e);
+            return;
+        }
+        openRooms = rooms;
+        credit.keySet().retainAll(rooms);
+
+        double admitPerSecond = admissionRateController.adjust(!rooms.isEmpty());
+        for (String showId : rooms) {
+            try {
+                admit(showId, admitPerSecond);
+            } catch (Exception e) {
+                log.error("Waiting room tick failed for show {}", showId, e);
+            }
+        }
+    }
+
+    private void admit(String showId, double admitPerSecond) {
+        AppConfig.WaitingRoom config = appConfig.getWaitingRoom();
+
+        double available = credit.getOrDefault(showId, 0.0)
+                + admitPerSecond * config.getTickIntervalMs() / 1000.0;
+        int count = (int) available;
+        List<String> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tokens.add(UUID.randomUUID().toString());
+        }
+
+        WaitingRoomStore.Tick tick = waitingRoomStore.admit(showId, tokens, config.getTickIntervalMs(),
+                config.getTokenTtlSeconds() * 1000L, config.getQueueTtlSeconds() * 1000L);
+
+        if (tick.admitted() >= 0) {
+            // Carry the fraction only: a short queue does not bank admissions for a later burst
+            credit.put(showId, available - count);
+            if (tick.admitted() > 0) {
+                meterRegistry.counter("waiting.room.admitted").increment(tick.admitted());
+                log.debug("Admitted {} users to show {}, {} still waiting",
+                        tick.admitted(), showId, tick.queueLength());
+            }
+        }
+
+        waitingRoomBroadcaster.publish(WaitingRoomFrame.builder()
+                .showId(showId)
+                .servingSequence(tick.servingSequence())
+                .queueLength(tick.queueLength())
+                .admitPerSecond(admitPerSecond)
+                .timestamp(System.currentTimeMillis())
+                .build());
+    }
+
+    private WaitingRoomStatus toStatus(String showId, Long userId, WaitingRoomStore.Place place) {
+        if (place.admitted()) {
+            return status(showId, userId, WaitingRoomState.ADMITTED)
+                    .admissionToken(place.token())
+                    .admissionExpiresAt(LocalDateTime.ofInstant(
+                            Instant.ofEpochMilli(place.expiresAtMs()), ZoneId.systemDefault()))
+                    .build();
+        }
+        return status(showId, userId, WaitingRoomState.QUEUED)
+                .sequence(place.sequence())
+                .position(place.rank() + 1)
+                .build();
+    }
+
+    private static WaitingRoomStatus.WaitingRoomStatusBuilder status(String showId, Long userId,
+            WaitingRoomState state) {
+        return WaitingRoomStatus.builder()
+                .showId(showId)
+                .userId(userId)
+                .state(state);
+    }
+}
@@ -0,0 +1,266 @@
+package com.quicktix.showseat_service.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.quicktix.showseat_service.broadcast.SeatLocksExpiredEvent;
+import com.quicktix.showseat_service.config.AppConfig;
+import com.quicktix.showseat_service.enums.SeatLockStoreMode;
+import com.quicktix.showseat_service.model.redis.SeatBatchResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compact lock layout: every lock of a show lives in SEAT_LOCKS:{showId}
+ * (idx -> userId|sessionId|expiryMs) indexed by SEAT_LOCK_EXP:{showId}
+ * (idx scored by expiryMs), so a show costs two keys however many seats are
+ * held, and a whole-show scan or clear is a single command.
+ *
+ * Entries carry their own expiry. The scripts reap expired entries of the show
+ * they touch, and {@link #sweep()} reaps shows nobody touched since their
+ * locks ran out, using SEAT_LOCK_SHOWS to find them without scanning keys.
+ *
+ * With app.seat-lock.expiry-events the sweeper also reaps shows that still
+ * hold live locks and announces every reaped seat, so it should run every
+ * second or so. Entries a script reaps lazily before the sweeper sees them
+ * are not announced; clients pick those up on their next snapshot.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.seat-lock", name = "store", havingValue = "hash")
+public class HashSeatLockStore implements SeatLockStore {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppConfig appConfig;
+
+    @Override
+    public SeatLockStoreMode mode() {
+        return SeatLockStoreMode.HASH;
+    }
+
+    @Override
+    public SeatBatchResult lock(String showId, List<Integer> seatIndices, Long userId, String sessionId,
+            long ttlSeconds) {
+        List<String> keys = List.of(
+                SeatRedisKeys.availability(showId),
+                SeatRedisKeys.locks(showId),
+                SeatRedisKeys.lockExpiry(showId),
+                SeatRedisKeys.SEAT_LOCK_SHOWS);
+
+        Object[] args = new Object[seatIndices.size() + 4];
+        args[0] = String.valueOf(ttlSeconds);
+        args[1] = userId.toString();
+        args[2] = sessionId;
+        args[3] = showId;
+        for (int i = 0; i < seatIndices.size(); i++) {
+            args[i + 4] = seatIndices.get(i).toString();
+        }
+
+        List<?> reply = stringRedisTemplate.execute(SeatLockScripts.HASH_LOCK_SEATS, keys, args);
+        return SeatLockScripts.lockResult(seatIndices, reply);
+    }
+
+    @Override
+    public SeatBatchResult confirm(String showId, List<Integer> seatIndices, Long userId, String sessionId,
+            boolean allowExpired, String bookingId) {
+        List<String> keys = List.of(
+                SeatRedisKeys.availability(showId),
+                SeatRedisKeys.locks(showId),
+                SeatRedisKeys.lockExpiry(showId),
+                SeatLockScripts.bookingMarker(bookingId));
+
+        Object[] args = SeatLockScripts.confirmArgs(seatIndices, userId, sessionId, allowExpired, bookingId);
+
+        List<?> reply = stringRedisTemplate.execute(SeatLockScripts.HASH_CONFIRM_SEATS, keys, args);
+        return SeatLockScripts.confirmResult(seatIndices, reply);
+    }
+
+    @Override
+    public SeatBatchResult unlock(String showId, List<Integer> seatIndices, Long userId, String sessionId) {
+        List<String> keys = List.of(SeatRedisKeys.locks(showId), SeatRedisKeys.lockExpiry(showId));
+
+        Object[] args = new Object[seatIndices.size() + 2];
+        args[0] = userId.toString();
+        args[1] = sessionId;
+        for (int i = 0; i < seatIndices.size(); i++) {
+            args[i + 2] = seatIndices.get(i).toString();
+        }
+
+        List<?> reply = stringRedisTemplate.execute(SeatLockScripts.HASH_UNLOCK_SEATS, keys, args);
+        return SeatLockScripts.unlockResult(seatIndices, reply);
+    }
+
+    /**
+     * Reads compare expiries with the local clock; writes use the Redis clock
+     * inside the scripts, so the two may disagree for a few milliseconds.
+     */
+    @Override
+    public boolean isLocked(String showId, int seatIndex) {
+        Double expiry = stringRedisTemplate.opsForZSet()
+                .score(SeatRedisKeys.lockExpiry(showId), String.valueOf(seatIndex));
+        return expiry != null && expiry > System.currentTimeMillis();
+    }
+
+    @Override
+    public boolean isLockedBy(String showId, int seatIndex, Long userId, String sessionId) {
+        Object value = stringRedisTemplate.opsForHash()
+                .get(SeatRedisKeys.locks(showId), String.valueOf(seatIndex));
+        if (value == null) {
+            return false;
+        }
+
+        // userId|sessionId|expiryMs, where the session id may itself contain '|'
+        String entry = value.toString();
+        int separator = entry.lastIndexOf('|');
+        return entry.substring(0, separator).equals(userId + "|" + sessionId)
+                && Long.parseLong(entry.substring(separator + 1)) > System.currentTimeMillis();
+    }
+
+    /**
+     * One pipelined round trip: the availability bitmap and the live range of
+     * the expiry index.
+     */
+    @Override
+    public byte[] seatStatuses(String showId, int totalSeats) {
+        byte[] availKey = SeatRedisKeys.raw(SeatRedisKeys.availability(showId));
+        byte[] expiryKey = SeatRedisKeys.raw(SeatRedisKeys.lockExpiry(showId));
+        double now = System.currentTimeMillis();
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(availKey);
+            connection.zSetCommands().zRangeByScore(expiryKey, now + 1, Double.POSITIVE_INFINITY);
+            return null;
+        }, RedisSerializer.byteArray());
+
+        byte[] bitmap = (byte[]) results.get(0);
+        byte[] statuses = new byte[totalSeats];
+
+        for (Object member : (Collection<?>) results.get(1)) {
+            int index = Integer.parseInt(new String((byte[]) member, StandardCharsets.UTF_8));
+            if (index < totalSeats) {
+                statuses[index] = 1; // LOCKED
+            }
+        }
+        for (int i = 0; i < totalSeats; i++) {
+            if (SeatLockScripts.isBitSet(bitmap, i)) {
+                statuses[i] = 2; // BOOKED
+            }
+        }
+
+        return statuses;
+    }
+
+    /**
+     * One ZCOUNT of the live range of each show's expiry index, pipelined.
+     */
+    @Override
+    public long[] countLocks(List<String> showIds, int[] totalSeats) {
+        double now = System.currentTimeMillis();
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String showId : showIds) {
+                connection.zSetCommands().zCount(
+                        SeatRedisKeys.raw(SeatRedisKeys.lockExpiry(showId)), now + 1, Double.POSITIVE_INFINITY);
+            }
+            return null;
+        });
+
+        long[] counts = new long[showIds.size()];
+        for (int s = 0; s < counts.length; s++) {
+            counts[s] = ((Number) results.get(s)).longValue();
+        }
+        return counts;
+    }
+
+    @Override
+    public long clearLocks(String showId, int totalSeats) {
+        Long removed = stringRedisTemplate.unlink(
+                List.of(SeatRedisKeys.locks(showId), SeatRedisKeys.lockExpiry(showId)));
+        stringRedisTemplate.opsForZSet().remove(SeatRedisKeys.SEAT_LOCK_SHOWS, showId);
+        return removed != null ? removed : 0;
+    }
+
+    /**
+     * Reaps the shows whose latest lock has already expired. Shows with live
+     * locks are reaped lazily by the next script that touches them.
+     */
+    @Scheduled(fixedDelayString = "#{@appConfig.seatLock.sweepIntervalMs}")
+    public void sweep() {
+        boolean announce = appConfig.getSeatLock().isExpiryEvents();
+        Collection<String> shows = announce
+                ? showsWithExpiredLocks()
+                : stringRedisTemplate.opsForZSet()
+                        .rangeByScore(SeatRedisKeys.SEAT_LOCK_SHOWS, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+        if (shows == null || shows.isEmpty()) {
+            return;
+        }
+
+        int reaped = 0;
+        for (String showId : shows) {
+            List<Integer> indices = reap(showId);
+            reaped += indices.size();
+            if (announce && !indices.isEmpty()) {
+                eventPublisher.publishEvent(new SeatLocksExpiredEvent(showId, indices));
+            }
+        }
+        log.debug("Lock sweeper reaped {} expired locks across {} shows", reaped, shows.size());
+    }
+
+    /**
+     * Shows holding at least one expired lock, live or not, found with one
+     * pipelined probe of each show's expiry index.
+     */
+    private List<String> showsWithExpiredLocks() {
+        Set<String> registered = stringRedisTemplate.opsForZSet().range(SeatRedisKeys.SEAT_LOCK_SHOWS, 0, -1);
+        if (registered == null || registered.isEmpty()) {
+            return List.of();
+        }
+        List<String> shows = new ArrayList<>(registered);
+
+        double now = System.currentTimeMillis();
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String showId : shows) {
+                connection.zSetCommands().zRangeByScore(
+                        SeatRedisKeys.raw(SeatRedisKeys.lockExpiry(showId)), Double.NEGATIVE_INFINITY, now, 0, 1);
+            }
+            return null;
+        }, RedisSerializer.byteArray());
+
+        List<String> expired = new ArrayList<>();
+        for (int i = 0; i < shows.size(); i++) {
+            if (!((Collection<?>) results.get(i)).isEmpty()) {
+                expired.add(shows.get(i));
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Drops the expired locks of one show and returns their seat indices.
+     */
+    public List<Integer> reap(String showId) {
+        List<?> reply = stringRedisTemplate.execute(
+                SeatLockScripts.HASH_REAP_LOCKS,
+                List.of(SeatRedisKeys.locks(showId), SeatRedisKeys.lockExpiry(showId), SeatRedisKeys.SEAT_LOCK_SHOWS),
+                showId);
+
+        List<Integer> indices = new ArrayList<>();
+        if (reply != null) {
+            reply.forEach(index -> indices.add(((Number) index).intValue()));
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,232 @@
+package com.quicktix.showseat_service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import com.quicktix.showseat_service.enums.SeatLockStoreMode;
+import com.quicktix.showseat_service.model.redis.SeatBatchResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Original lock layout: SEAT_LOCK:{showId}:{idx} (string with TTL) plus
+ * SEAT_LOCK_META:{showId}:{idx} (hash with userId, sessionId, lockedAt).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.seat-lock", name = "store", havingValue = "keys", matchIfMissing = true)
+public class KeyPerSeatLockStore implements SeatLockStore {
+
+    private static final int CLEAR_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public SeatLockStoreMode mode() {
+        return SeatLockStoreMode.KEYS;
+    }
+
+    @Override
+    public SeatBatchResult lock(String showId, List<Integer> seatIndices, Long userId, String sessionId,
+            long ttlSeconds) {
+        List<String> keys = seatKeys(showId, seatIndices);
+
+        Object[] args = new Object[seatIndices.size() + 4];
+        args[0] = String.valueOf(ttlSeconds);
+        args[1] = userId.toString();
+        args[2] = sessionId;
+        args[3] = String.valueOf(System.currentTimeMillis());
+        for (int i = 0; i < seatIndices.size(); i++) {
+            args[i + 4] = seatIndices.get(i).toString();
+        }
+
+        List<?> reply = stringRedisTemplate.execute(SeatLockScripts.LOCK_SEATS, keys, args);
+        return SeatLockScripts.lockResult(seatIndices, reply);
+    }
+
+    @Override
+    public SeatBatchResult confirm(String showId, List<Integer> seatIndices, Long userId, String sessionId,
+            boolean allowExpired, String bookingId) {
+        List<String> keys = seatKeys(showId, seatIndices);
+        keys.add(SeatLockScripts.bookingMarker(bookingId));
+
+        Object[] args = SeatLockScripts.confirmArgs(seatIndices, userId, sessionId, allowExpired, bookingId);
+
+        List<?> reply = stringRedisTemplate.execute(SeatLockScripts.CONFIRM_SEATS, keys, args);
+        return SeatLockScripts.confirmResult(seatIndices, reply);
+    }
+
+    @Override
+    public SeatBatchResult unlock(String showId, List<Integer> seatIndices, Long userId, String sessionId) {
+        List<String> keys = new ArrayList<>(seatIndices.size() * 2);
+        for (Integer index : seatIndices) {
+            keys.add(SeatRedisKeys.lock(showId, index));
+        }
+        for (Integer index : seatIndices) {
+            keys.add(SeatRedisKeys.lockMeta(showId, index));
+        }
+
+        List<?> reply = stringRedisTemplate.execute(
+                SeatLockScripts.UNLOCK_SEATS, keys, userId.toString(), sessionId);
+        return SeatLockScripts.unlockResult(seatIndices, reply);
+    }
+
+    @Override
+    public boolean isLocked(String showId, int seatIndex) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(SeatRedisKeys.lock(showId, seatIndex)));
+    }
+
+    @Override
+    public boolean isLockedBy(String showId, int seatIndex, Long userId, String sessionId) {
+        if (!isLocked(showId, seatIndex)) {
+            return false;
+        }
+
+        List<Object> meta = stringRedisTemplate.opsForHash()
+                .multiGet(SeatRedisKeys.lockMeta(showId, seatIndex), List.of("userId", "sessionId"));
+
+        return metaValueEquals(meta.get(0), userId.toString())
+                && metaValueEquals(meta.get(1), sessionId);
+    }
+
+    /**
+     * One pipelined round trip: a GET for the availability bitmap followed by
+     * one EXISTS per lock key.
+     */
+    @Override
+    public byte[] seatStatuses(String showId, int totalSeats) {
+        byte[] availKey = SeatRedisKeys.raw(SeatRedisKeys.availability(showId));
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(availKey);
+            for (int i = 0; i < totalSeats; i++) {
+                connection.keyCommands().exists(SeatRedisKeys.raw(SeatRedisKeys.lock(showId, i)));
+            }
+            return null;
+        }, RedisSerializer.byteArray());
+
+        byte[] bitmap = (byte[]) results.get(0);
+        byte[] statuses = new byte[totalSeats];
+
+        for (int i = 0; i < totalSeats; i++) {
+            if (SeatLockScripts.isBitSet(bitmap, i)) {
+                statuses[i] = 2; // BOOKED
+            } else if (Boolean.TRUE.equals(results.get(i + 1))) {
+                statuses[i] = 1; // LOCKED
+            }
+        }
+
+        return statuses;
+    }
+
+    /**
+     * One multi-key EXISTS per show, which counts the lock keys that exist,
+     * all in one pipeline.
+     */
+    @Override
+    public long[] countLocks(List<String> showIds, int[] totalSeats) {
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int s = 0; s < showIds.size(); s++) {
+                byte[][] lockKeys = new byte[Math.max(totalSeats[s], 1)][];
+                for (int i = 0; i < lockKeys.length; i++) {
+                    lockKeys[i] = SeatRedisKeys.raw(SeatRedisKeys.lock(showIds.get(s), i));
+                }
+                connection.keyCommands().exists(lockKeys);
+            }
+            return null;
+        });
+
+        long[] counts = new long[showIds.size()];
+        for (int s = 0; s < counts.length; s++) {
+            counts[s] = totalSeats[s] > 0 ? ((Number) results.get(s)).longValue() : 0;
+        }
+        return counts;
+    }
+
+    /**
+     * Seat indices are dense, so with a known seat count the lock keys are
+     * enumerated directly. Otherwise (mapping already gone) they are found with
+     * a cursor SCAN, which never holds the event loop the way KEYS does.
+     * Either way they are UNLINKed in batches, freeing memory off the main thread.
+     */
+    @Override
+    public long clearLocks(String showId, int totalSeats) {
+        if (totalSeats > 0) {
+            long reclaimed = 0;
+            List<String> batch = new ArrayList<>(CLEAR_BATCH_SIZE);
+            for (int i = 0; i < totalSeats; i++) {
+                batch.add(SeatRedisKeys.lock(showId, i));
+                batch.add(SeatRedisKeys.lockMeta(showId, i));
+                if (batch.size() >= CLEAR_BATCH_SIZE) {
+                    reclaimed += unlink(batch);
+                    batch.clear();
+                }
+            }
+            return reclaimed + unlink(batch);
+        }
+
+        // Matches SEAT_LOCK:{showId}:{idx} and SEAT_LOCK_META:{showId}:{idx}
+        ScanOptions options = ScanOptions.scanOptions()
+                .match("SEAT_LOCK*:" + showId + ":*")
+                .count(CLEAR_BATCH_SIZE)
+                .build();
+
+        long reclaimed = 0;
+        List<String> batch = new ArrayList<>(CLEAR_BATCH_SIZE);
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= CLEAR_BATCH_SIZE) {
+                    reclaimed += unlink(batch);
+                    batch.clear();
+                }
+            }
+        }
+        return reclaimed + unlink(batch);
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long removed = stringRedisTemplate.unlink(keys);
+        return removed != null ? removed : 0;
+    }
+
+    /**
+     * KEYS[1] bitmap, then the lock keys, then the metadata keys.
+     */
+    private static List<String> seatKeys(String showId, List<Integer> seatIndices) {
+        List<String> keys = new ArrayList<>(seatIndices.size() * 2 + 1);
+        keys.add(SeatRedisKeys.availability(showId));
+        for (Integer index : seatIndices) {
+            keys.add(SeatRedisKeys.lock(showId, index));
+        }
+        for (Integer index : seatIndices) {
+            keys.add(SeatRedisKeys.lockMeta(showId, index));
+        }
+        return keys;
+    }
+
+    /**
+     * Lock metadata is written raw by the lock script; entries written before that
+     * were JSON-encoded strings, so accept both forms while they expire.
+     */
+    static boolean metaValueEquals(Object stored, String expected) {
+        if (stored == null) {
+            return false;
+        }
+        String value = stored.toString();
+        return value.equals(expected) || value.equals("\"" + expected + "\"");
+    }
+}
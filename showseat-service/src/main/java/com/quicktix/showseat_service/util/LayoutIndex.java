@@ -0,0 +1,161 @@
+package com.quicktix.showseat_service.util;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.quicktix.showseat_service.enums.SeatType;
+import com.quicktix.showseat_service.model.document.Cell;
+import com.quicktix.showseat_service.model.document.Row;
+import com.quicktix.showseat_service.model.document.SeatLayout;
+import com.quicktix.showseat_service.model.redis.SeatIndexMapping;
+
+import lombok.Getter;
+
+/**
+ * Immutable, compiled form of a SeatLayout, built once per layout version.
+ *
+ * Seats get dense indices in row-major order, skipping cells without a seat
+ * number. This is the same order used for SEAT_MAP:{showId}, so for any show
+ * created from the layout, index i here is bit i of SEAT_AVAIL:{showId}.
+ */
+@Getter
+public final class LayoutIndex {
+
+    private static final SeatType[] SEAT_TYPES = SeatType.values();
+    private static final byte NO_SEAT_TYPE = -1;
+
+    private final String layoutId;
+    private final Integer version;
+
+    /**
+     * Seat number <-> dense index
+     */
+    private final SeatIndexMapping seats;
+
+    /**
+     * SeatType ordinal per index, -1 when the cell has no seat type
+     */
+    private final byte[] seatTypes;
+
+    /**
+     * First seat index of each row; rowStarts[rows] == total seat count
+     */
+    private final int[] rowStarts;
+
+    private final String[] rowLabels;
+
+    private LayoutIndex(String layoutId, Integer version, SeatIndexMapping seats,
+            byte[] seatTypes, int[] rowStarts, String[] rowLabels) {
+        this.layoutId = layoutId;
+        this.version = version;
+        this.seats = seats;
+        this.seatTypes = seatTypes;
+        this.rowStarts = rowStarts;
+        this.rowLabels = rowLabels;
+    }
+
+    public static LayoutIndex compile(SeatLayout layout) {
+        List<Row> rows = layout.getRows() != null ? layout.getRows() : List.of();
+
+        Map<String, Integer> seatToIndex = new LinkedHashMap<>();
+        byte[] seatTypes = new byte[16];
+        int[] rowStarts = new int[rows.size() + 1];
+        String[] rowLabels = new String[rows.size()];
+
+        int index = 0;
+        for (int r = 0; r < rows.size(); r++) {
+            Row row = rows.get(r);
+            rowStarts[r] = index;
+            rowLabels[r] = row.getRowLabel();
+            if (row.getCells() == null) {
+                continue;
+            }
+            for (Cell cell : row.getCells()) {
+                if (cell.getSeatNo() != null && !cell.getSeatNo().isEmpty()) {
+                    if (index == seatTypes.length) {
+                        seatTypes = Arrays.copyOf(seatTypes, index * 2);
+                    }
+                    seatTypes[index] = cell.getSeatType() != null
+                            ? (byte) cell.getSeatType().ordinal()
+                            : NO_SEAT_TYPE;
+                    seatToIndex.put(cell.getSeatNo(), index++);
+                }
+            }
+        }
+        rowStarts[rows.size()] = index;
+
+        return new LayoutIndex(
+                layout.getId(),
+                layout.getVersion(),
+                SeatIndexMapping.of(layout.getId(), seatToIndex),
+                Arrays.copyOf(seatTypes, index),
+                rowStarts,
+                rowLabels);
+    }
+
+    public int totalSeats() {
+        return seatTypes.length;
+    }
+
+    public int rowCount() {
+        return rowLabels.length;
+    }
+
+    /**
+     * @return dense index of the seat, or -1 if the layout has no such seat
+     */
+    public int indexOf(String seatNo) {
+        return seats.indexOf(seatNo);
+    }
+
+    public boolean contains(String seatNo) {
+        return seats.indexOf(seatNo) >= 0;
+    }
+
+    public String seatAt(int index) {
+        return seats.seatAt(index);
+    }
+
+    /**
+     * @return seat type configured on the cell, or null if none was set
+     */
+    public SeatType seatType(int index) {
+        byte type = seatTypes[index];
+        return type == NO_SEAT_TYPE ? null : SEAT_TYPES[type];
+    }
+
+    /**
+     * @return row (position in the layout) that holds the seat index
+     */
+    public int rowOf(int index) {
+        int row = Arrays.binarySearch(rowStarts, 0, rowLabels.length, index);
+        if (row < 0) {
+            return -row - 2;
+        }
+        // Rows without seats share a start with the next row; take the last one
+        while (row + 1 < rowLabels.length && rowStarts[row + 1] == index) {
+            row++;
+        }
+        return row;
+    }
+
+    public String rowLabel(int row) {
+        return rowLabels[row];
+    }
+
+    /**
+     * Seat number -> index, as stored in SEAT_MAP:{showId} for shows of this layout.
+     */
+    public Map<String, Integer> toSeatMapping() {
+        Map<String, Integer> mapping = new LinkedHashMap<>(totalSeats() * 2);
+        for (int i = 0; i < totalSeats(); i++) {
+            String seatNo = seats.seatAt(i);
+            if (seatNo != null) {
+                mapping.put(seatNo, i);
+            }
+        }
+        return mapping;
+    }
+}
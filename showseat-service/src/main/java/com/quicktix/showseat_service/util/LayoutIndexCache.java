@@ -0,0 +1,36 @@
+package com.quicktix.showseat_service.util;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.quicktix.showseat_service.config.AppConfig;
+import com.quicktix.showseat_service.model.document.SeatLayout;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Compiled {@link LayoutIndex} per layout id and version.
+ */
+@Component
+public class LayoutIndexCache {
+
+    private final Cache<String, LayoutIndex> cache;
+
+    public LayoutIndexCache(AppConfig appConfig, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(appConfig.getCache().getLayoutIndexMaxEntries())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "layoutIndexCache");
+    }
+
+    public LayoutIndex get(SeatLayout layout) {
+        return cache.get(layout.getId() + ":" + layout.getVersion(), key -> LayoutIndex.compile(layout));
+    }
+
+    public void invalidate(String layoutId) {
+        cache.asMap().keySet().removeIf(key -> key.startsWith(layoutId + ":"));
+    }
+}
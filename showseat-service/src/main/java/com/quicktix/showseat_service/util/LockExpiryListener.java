@@ -0,0 +1,70 @@
+package com.quicktix.showseat_service.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.KeyExpirationEventMessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.quicktix.showseat_service.broadcast.SeatLocksExpiredEvent;
+import com.quicktix.showseat_service.config.AppConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Turns Redis expired-key events for SEAT_LOCK:{showId}:{idx} into
+ * {@link SeatLocksExpiredEvent}s (key-per-seat store only; the hash store
+ * announces expiries from its sweeper).
+ *
+ * Redis only emits these events with notify-keyspace-events including "Ex".
+ * On startup the listener sets app.seat-lock.keyspace-notifications when the
+ * server has no notification flags yet; leave it empty where CONFIG is not
+ * allowed and configure the server instead.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${app.seat-lock.expiry-events:false} and '${app.seat-lock.store:KEYS}'.equalsIgnoreCase('KEYS')")
+public class LockExpiryListener extends KeyExpirationEventMessageListener {
+
+    private final RedisBitmapUtil redisBitmapUtil;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LockExpiryListener(RedisMessageListenerContainer listenerContainer, RedisBitmapUtil redisBitmapUtil,
+            ApplicationEventPublisher eventPublisher, AppConfig appConfig) {
+        super(listenerContainer);
+        this.redisBitmapUtil = redisBitmapUtil;
+        this.eventPublisher = eventPublisher;
+        setKeyspaceNotificationsConfigParameter(appConfig.getSeatLock().getKeyspaceNotifications());
+    }
+
+    @Override
+    protected void doHandleMessage(Message message) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!key.startsWith(SeatRedisKeys.SEAT_LOCK_PREFIX)) {
+            return;
+        }
+
+        // SEAT_LOCK:{showId}:{idx}
+        int separator = key.lastIndexOf(':');
+        String showId = key.substring(SeatRedisKeys.SEAT_LOCK_PREFIX.length(), separator);
+        int seatIndex;
+        try {
+            seatIndex = Integer.parseInt(key.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring expiry of unexpected lock key {}", key);
+            return;
+        }
+
+        // Events can lag the TTL; skip seats locked again or booked meanwhile
+        if (!redisBitmapUtil.isSeatAvailable(showId, seatIndex)) {
+            return;
+        }
+
+        log.debug("Lock on seat {} of show {} expired", seatIndex, showId);
+        eventPublisher.publishEvent(new SeatLocksExpiredEvent(showId, List.of(seatIndex)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.quicktix.showseat_service.util;
+
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.quicktix.showseat_service.config.AppConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * In-process cache of {@link ShowPriceTable} per show.
+ *
+ * A show's pricing and layout are fixed once it is created, so a table stays
+ * valid until the show is deleted.
+ */
+@Component
+public class PriceTableCache {
+
+    private final Cache<String, ShowPriceTable> cache;
+
+    public PriceTableCache(AppConfig appConfig, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(appConfig.getCache().getPriceTableMaxShows())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "priceTableCache");
+    }
+
+    /**
+     * Returns the cached table, building it on a miss. A loader returning null
+     * (e.g. the show does not exist) is not cached.
+     */
+    public ShowPriceTable get(String showId, Function<String, ShowPriceTable> loader) {
+        return cache.get(showId, loader);
+    }
+
+    public void invalidate(String showId) {
+        cache.invalidate(showId);
+    }
+}
@@ -2,15 +2,25 @@ package com.quicktix.showseat_service.util;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
+import com.quicktix.showseat_service.enums.SeatOutcome;
+import com.quicktix.showseat_service.exception.SeatAlreadyBookedException;
+import com.quicktix.showseat_service.exception.SeatAlreadyLockedException;
+import com.quicktix.showseat_service.metrics.SeatLockMetrics;
+import com.quicktix.showseat_service.model.redis.SeatBatchResult;
+import com.quicktix.showseat_service.model.redis.SeatIndexMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,43 +30,78 @@ import lombok.extern.slf4j.Slf4j;
 public class RedisBitmapUtil {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final SeatLockStore seatLockStore;
+    private final SeatMappingCache seatMappingCache;
+    private final MeterRegistry meterRegistry;
+    private final SeatLockMetrics seatLockMetrics;
 
-    private static final String SEAT_AVAILABILITY_PREFIX = "SEAT_AVAIL:";
-    private static final String SEAT_LOCK_PREFIX = "SEAT_LOCK:"; // STRING (SETNX)
-    private static final String SEAT_LOCK_META_PREFIX = "SEAT_LOCK_META:"; // HASH
-    private static final String SEAT_MAPPING_PREFIX = "SEAT_MAP:";
-    private static final String BOOKING_PROCESSED_PREFIX = "BOOKING_PROCESSED:";
+    static final String LOCK_KEYS_RECLAIMED_METRIC = "seat.lock.keys.reclaimed";
 
-    /* ===================== IDEMPOTENCY ===================== */
+    /* ===================== INIT ===================== */
 
-    public boolean isBookingProcessed(String bookingId) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(BOOKING_PROCESSED_PREFIX + bookingId));
+    public void initializeSeatAvailability(String showId, int totalSeats) {
+        // Bits past the end of the string read as 0, so one SET of zeroed bytes
+        // is the same as setting every seat available
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.stringCommands()
+                .set(SeatRedisKeys.raw(SeatRedisKeys.availability(showId)), new byte[(totalSeats + 7) / 8]));
+        log.info("Initialized {} seats for show {}", totalSeats, showId);
     }
 
-    public void markBookingProcessed(String bookingId) {
-        redisTemplate.opsForValue().set(BOOKING_PROCESSED_PREFIX + bookingId, "TRUE", 24, TimeUnit.HOURS);
+    /**
+     * Initializes the availability bitmap and seat mapping of a single show in
+     * one pipelined round trip.
+     */
+    public void initializeShow(String showId, int totalSeats, Map<String, Integer> seatToIndex) {
+        initializeShows(List.of(showId), totalSeats, seatToIndex);
     }
 
-    /* ===================== INIT ===================== */
+    /**
+     * Initializes several shows sharing one layout in one pipelined round trip:
+     * per show, one SET of a zeroed bitmap and one HSET of the whole seat map.
+     * Mapping values go through the template's hash value serializer so they
+     * read back exactly like {@link #storeSeatMapping}.
+     */
+    @SuppressWarnings("unchecked")
+    public void initializeShows(List<String> showIds, int totalSeats, Map<String, Integer> seatToIndex) {
+        if (showIds.isEmpty()) {
+            return;
+        }
 
-    public void initializeSeatAvailability(String showId, int totalSeats) {
-        String key = SEAT_AVAILABILITY_PREFIX + showId;
-        for (int i = 0; i < totalSeats; i++) {
-            redisTemplate.opsForValue().setBit(key, i, false);
+        RedisSerializer<String> hashKeySerializer = (RedisSerializer<String>) redisTemplate.getHashKeySerializer();
+        RedisSerializer<Object> hashValueSerializer = (RedisSerializer<Object>) redisTemplate.getHashValueSerializer();
+
+        // The serialized seat map is identical for every show of the layout
+        Map<byte[], byte[]> rawMapping = new LinkedHashMap<>(seatToIndex.size() * 2);
+        seatToIndex.forEach((seat, index) -> rawMapping.put(
+                hashKeySerializer.serialize(seat),
+                hashValueSerializer.serialize(index.toString())));
+        byte[] zeroed = new byte[(totalSeats + 7) / 8];
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String showId : showIds) {
+                connection.stringCommands().set(SeatRedisKeys.raw(SeatRedisKeys.availability(showId)), zeroed);
+                if (!rawMapping.isEmpty()) {
+                    connection.hashCommands().hMSet(SeatRedisKeys.raw(SeatRedisKeys.mapping(showId)), rawMapping);
+                }
+            }
+            return null;
+        });
+
+        for (String showId : showIds) {
+            seatMappingCache.put(SeatIndexMapping.of(showId, seatToIndex));
         }
-        log.info("Initialized {} seats for show {}", totalSeats, showId);
+        log.info("Initialized {} shows with {} seats each", showIds.size(), totalSeats);
     }
 
     /* ===================== STATE ===================== */
 
     public boolean isSeatBooked(String showId, int seatIndex) {
         return Boolean.TRUE.equals(
-                redisTemplate.opsForValue().getBit(SEAT_AVAILABILITY_PREFIX + showId, seatIndex));
+                redisTemplate.opsForValue().getBit(SeatRedisKeys.availability(showId), seatIndex));
     }
 
     public boolean isSeatLocked(String showId, int seatIndex) {
-        return Boolean.TRUE.equals(
-                redisTemplate.hasKey(lockKey(showId, seatIndex)));
+        return seatLockStore.isLocked(showId, seatIndex);
     }
 
     public boolean isSeatAvailable(String showId, int seatIndex) {
@@ -64,20 +109,7 @@ public class RedisBitmapUtil {
     }
 
     public boolean isSeatLockedByUser(String showId, int seatIndex, Long userId, String sessionId) {
-        String lockKey = lockKey(showId, seatIndex);
-        String metaKey = metaKey(showId, seatIndex);
-
-        if (!Boolean.TRUE.equals(redisTemplate.hasKey(lockKey))) {
-            return false;
-        }
-
-        Map<Object, Object> meta = redisTemplate.opsForHash().entries(metaKey);
-        if (meta.isEmpty()) {
-            return false;
-        }
-
-        return userId.toString().equals(meta.get("userId"))
-                && sessionId.equals(meta.get("sessionId"));
+        return seatLockStore.isLockedBy(showId, seatIndex, userId, sessionId);
     }
 
     /**
@@ -85,24 +117,49 @@ public class RedisBitmapUtil {
      * Each seat takes 2 bits: 00=AVAIL, 01=LOCKED, 10=BOOKED, 11=BLOCKED
      */
     public byte[] getSeatStatusBitmask(String showId, int totalSeats) {
+        byte[] statuses = getSeatStatuses(showId, totalSeats);
         byte[] bitmask = new byte[(totalSeats * 2 + 7) / 8];
 
         for (int i = 0; i < totalSeats; i++) {
-            int status = 0; // AVAILABLE
-            if (isSeatBooked(showId, i)) {
-                status = 2; // BOOKED (10 in binary)
-            } else if (isSeatLocked(showId, i)) {
-                status = 1; // LOCKED (01 in binary)
-            }
-
             int byteIndex = (i * 2) / 8;
             int bitOffset = (i * 2) % 8;
-            bitmask[byteIndex] |= (byte) (status << bitOffset);
+            bitmask[byteIndex] |= (byte) (statuses[i] << bitOffset);
         }
 
         return bitmask;
     }
 
+    /**
+     * Bulk status scan for a whole show in a single round trip.
+     * Returns one 2-bit status code per seat index (0=AVAIL, 1=LOCKED, 2=BOOKED).
+     */
+    public byte[] getSeatStatuses(String showId, int totalSeats) {
+        return seatLockStore.seatStatuses(showId, totalSeats);
+    }
+
+    /**
+     * Booked seat count per show: one BITCOUNT of each availability bitmap,
+     * pipelined.
+     */
+    public long[] countBookedSeats(List<String> showIds) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String showId : showIds) {
+                connection.stringCommands().bitCount(SeatRedisKeys.raw(SeatRedisKeys.availability(showId)));
+            }
+            return null;
+        });
+
+        long[] counts = new long[showIds.size()];
+        for (int s = 0; s < counts.length; s++) {
+            counts[s] = ((Number) results.get(s)).longValue();
+        }
+        return counts;
+    }
+
+    public long[] countLockedSeats(List<String> showIds, int[] totalSeats) {
+        return seatLockStore.countLocks(showIds, totalSeats);
+    }
+
     /* ===================== VALIDATION ===================== */
 
     public Map<Integer, Boolean> validateSeatsLockedByUser(
@@ -130,23 +187,11 @@ public class RedisBitmapUtil {
     /**
      * Atomically lock multiple seats using a Lua script.
      * This ensures "all-or-nothing" locking - if ANY seat is already locked or
-     * booked,
-     * the entire operation fails and no seats are locked.
-     * 
-     * @return List of locked seat indices (all requested seats if successful, empty
-     *         if failed)
-     * @throws com.quicktix.showseat_service.exception.SeatAlreadyLockedException if
-     *                                                                            any
-     *                                                                            seat
-     *                                                                            is
-     *                                                                            already
-     *                                                                            locked
-     * @throws com.quicktix.showseat_service.exception.SeatAlreadyBookedException if
-     *                                                                            any
-     *                                                                            seat
-     *                                                                            is
-     *                                                                            already
-     *                                                                            booked
+     * booked, the entire operation fails and no seats are locked.
+     *
+     * @return List of locked seat indices (all requested seats if successful)
+     * @throws SeatAlreadyBookedException if any seat is already booked
+     * @throws SeatAlreadyLockedException if any seat is already locked
      */
     public List<Integer> lockSeatsAtomic(
             String showId,
@@ -160,6 +205,36 @@ public class RedisBitmapUtil {
             return new ArrayList<>();
         }
 
+        SeatBatchResult result = tryLockSeats(showId, seatIndices, userId, sessionId, ttlSeconds);
+
+        if (!result.isApplied()) {
+            List<Integer> booked = result.indicesWith(SeatOutcome.ALREADY_BOOKED);
+            if (!booked.isEmpty()) {
+                log.warn("Seats {} already booked for show {}", booked, showId);
+                throw new SeatAlreadyBookedException(describeSeats(showId, booked) + " already booked");
+            }
+
+            List<Integer> locked = result.indicesWith(SeatOutcome.LOCKED_BY_OTHER);
+            log.warn("Seats {} already locked for show {}", locked, showId);
+            throw new SeatAlreadyLockedException(describeSeats(showId, locked) + " already locked");
+        }
+
+        log.info("Atomically locked {} seats for show {} by user {}", seatIndices.size(), showId, userId);
+        return new ArrayList<>(seatIndices);
+    }
+
+    /**
+     * Single-round-trip lock attempt: checks the availability bits and existing
+     * locks, then writes every lock and its owner metadata with the TTL, all in
+     * one EVALSHA. Conflicting seats are reported instead of thrown.
+     */
+    public SeatBatchResult tryLockSeats(
+            String showId,
+            List<Integer> seatIndices,
+            Long userId,
+            String sessionId,
+            long ttlSeconds) {
+
         // Validate seat indices - must be non-negative integers
         for (Integer index : seatIndices) {
             if (index == null || index < 0) {
@@ -174,97 +249,19 @@ public class RedisBitmapUtil {
             throw new IllegalArgumentException("TTL must be positive: " + ttlSeconds);
         }
 
-        log.debug("lockSeatsAtomic: showId={}, indices={}, userId={}, ttl={}",
+        log.debug("tryLockSeats: showId={}, indices={}, userId={}, ttl={}",
                 showId, seatIndices, userId, ttlSeconds);
 
-        // First, check if any seats are already booked (in the bitmap)
-        for (Integer index : seatIndices) {
-            if (isSeatBooked(showId, index)) {
-                String seatNo = getSeatNumber(showId, index);
-                log.warn("Seat {} (index {}) already booked for show {}", seatNo, index, showId);
-                throw new com.quicktix.showseat_service.exception.SeatAlreadyBookedException(
-                        "Seat " + (seatNo != null ? seatNo : index) + " is already booked");
-            }
-        }
-
-        // Lua script for atomic multi-seat locking
-        // ARGV[1]: TTL in seconds
-        // ARGV[2]: lock value ("1")
-        String luaScript = "local ttl = tonumber(ARGV[1]) " +
-                "local lockValue = ARGV[2] " +
-                "for i, key in ipairs(KEYS) do " +
-                "  if redis.call('EXISTS', key) == 1 then " +
-                "    return 0 " +
-                "  end " +
-                "end " +
-                "for i, key in ipairs(KEYS) do " +
-                "  redis.call('SET', key, lockValue, 'EX', ttl) " +
-                "end " +
-                "return 1";
-
-        // Build lock keys
-        List<String> lockKeys = new ArrayList<>();
-        for (Integer index : seatIndices) {
-            lockKeys.add(lockKey(showId, index));
-        }
-
-        log.debug("Executing Lua script with keys={}, ttl={}", lockKeys, ttlSeconds);
-
+        seatLockMetrics.lockAttempted(seatIndices.size());
         try {
-            // Use StringRedisTemplate for script execution to ensure arguments are not
-            // JSON-quoted.
-            // This is necessary because the default redisTemplate uses
-            // GenericJackson2JsonRedisSerializer,
-            // which would quote the TTL and lock value, causing Lua's tonumber() to fail.
-            org.springframework.data.redis.core.StringRedisTemplate stringTemplate = new org.springframework.data.redis.core.StringRedisTemplate(
-                    redisTemplate.getConnectionFactory());
-
-            Long result = stringTemplate.execute(
-                    new org.springframework.data.redis.core.script.DefaultRedisScript<>(luaScript, Long.class),
-                    lockKeys,
-                    String.valueOf(ttlSeconds),
-                    "1");
-
-            log.debug("Lua script result: {}", result);
-
-            if (result == null || result == 0) {
-                // Find which seat is already locked for better error message
-                for (Integer index : seatIndices) {
-                    if (isSeatLocked(showId, index)) {
-                        String seatNo = getSeatNumber(showId, index);
-                        log.warn("Seat {} (index {}) already locked for show {}", seatNo, index, showId);
-                        throw new com.quicktix.showseat_service.exception.SeatAlreadyLockedException(
-                                "One or more seats are already locked");
-                    }
-                }
-                throw new com.quicktix.showseat_service.exception.SeatAlreadyLockedException(
-                        "Failed to acquire locks for requested seats");
-            }
-
-            // Store metadata for each locked seat
-            for (Integer index : seatIndices) {
-                String metaKey = metaKey(showId, index);
-                Map<String, String> meta = new HashMap<>();
-                meta.put("userId", userId.toString());
-                meta.put("sessionId", sessionId);
-                meta.put("lockedAt", String.valueOf(System.currentTimeMillis()));
-                redisTemplate.opsForHash().putAll(metaKey, meta);
-                redisTemplate.expire(metaKey, ttlSeconds, TimeUnit.SECONDS);
-            }
-
-            log.info("Atomically locked {} seats for show {} by user {}", seatIndices.size(), showId, userId);
-            return new ArrayList<>(seatIndices);
-
-        } catch (org.springframework.data.redis.RedisSystemException e) {
-            log.error("CRITICAL: Redis system error during seat locking for show {}: {}", showId, e.getMessage(), e);
-            throw new RuntimeException("LOCK_OPERATION_FAILED: Redis system error: " + e.getMessage(), e);
-        } catch (org.springframework.dao.DataAccessException e) {
-            log.error("CRITICAL: Redis data access error during seat locking for show {}: {}", showId, e.getMessage(),
-                    e);
+            SeatBatchResult result = seatLockMetrics.timeLock(
+                    () -> seatLockStore.lock(showId, seatIndices, userId, sessionId, ttlSeconds));
+            seatLockMetrics.lockCompleted(showId, result);
+            return result;
+        } catch (DataAccessException e) {
+            seatLockMetrics.lockFailed();
+            log.error("CRITICAL: Redis error during seat locking for show {}: {}", showId, e.getMessage(), e);
             throw new RuntimeException("LOCK_OPERATION_FAILED: Redis data access error: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("CRITICAL: Unexpected error during seat locking for show {}: {}", showId, e.getMessage(), e);
-            throw new RuntimeException("LOCK_OPERATION_FAILED: Unexpected error: " + e.getMessage(), e);
         }
     }
 
@@ -289,46 +286,67 @@ public class RedisBitmapUtil {
             List<Integer> seatIndices,
             Long userId,
             String sessionId) {
-        int unlocked = 0;
-
-        for (Integer index : seatIndices) {
-            if (!isSeatLockedByUser(showId, index, userId, sessionId)) {
-                continue;
-            }
+        return unlockSeatsAtomic(showId, seatIndices, userId, sessionId)
+                .indicesWith(SeatOutcome.RELEASED)
+                .size();
+    }
 
-            redisTemplate.delete(lockKey(showId, index));
-            redisTemplate.delete(metaKey(showId, index));
-            unlocked++;
-        }
+    /**
+     * Releases, in one script call, every seat of the set that is locked by the
+     * given user/session. Seats held by anyone else are reported as NOT_OWNED.
+     */
+    public SeatBatchResult unlockSeatsAtomic(
+            String showId,
+            List<Integer> seatIndices,
+            Long userId,
+            String sessionId) {
 
-        return unlocked;
+        SeatBatchResult result = seatLockMetrics.timeUnlock(
+                () -> seatLockStore.unlock(showId, seatIndices, userId, sessionId));
+        seatLockMetrics.seatsReleased(result.indicesWith(SeatOutcome.RELEASED).size());
+        return result;
     }
 
     /* ===================== CONFIRM ===================== */
 
     public void confirmBooking(String showId, List<Integer> seatIndices, Long userId, String sessionId) {
-        String availKey = SEAT_AVAILABILITY_PREFIX + showId;
-        int confirmed = 0;
-
-        for (Integer index : seatIndices) {
-            if (!isSeatLockedByUser(showId, index, userId, sessionId)) {
-                log.error("Seat {} not locked by user {} during confirm", index, userId);
-                continue;
-            }
+        SeatBatchResult result = confirmSeatsAtomic(showId, seatIndices, userId, sessionId, false, null);
 
-            redisTemplate.opsForValue().setBit(availKey, index, true);
-            redisTemplate.delete(lockKey(showId, index));
-            redisTemplate.delete(metaKey(showId, index));
-            confirmed++;
+        if (!result.isApplied()) {
+            log.error("Seats {} could not be confirmed for user {}", result.getOutcomes(), userId);
+            return;
         }
 
-        log.info("Confirmed booking for {} seats in show {}", confirmed, showId);
+        log.info("Confirmed booking for {} seats in show {}", seatIndices.size(), showId);
+    }
+
+    /**
+     * Verifies ownership of every seat and books them all in one script call.
+     * Either every seat is booked (and its lock released) or nothing changes.
+     *
+     * @param allowExpired also accept seats whose lock expired but that are still
+     *                     neither locked nor booked (slow payment completion)
+     * @param bookingId    when set, marked processed in the same script call; a
+     *                     repeated confirm for it comes back ALREADY_CONFIRMED
+     */
+    public SeatBatchResult confirmSeatsAtomic(
+            String showId,
+            List<Integer> seatIndices,
+            Long userId,
+            String sessionId,
+            boolean allowExpired,
+            String bookingId) {
+
+        SeatBatchResult result = seatLockMetrics.timeConfirm(
+                () -> seatLockStore.confirm(showId, seatIndices, userId, sessionId, allowExpired, bookingId));
+        seatLockMetrics.confirmCompleted(result);
+        return result;
     }
 
     /* ===================== MAPPING ===================== */
 
     public void storeSeatMapping(String showId, Map<String, Integer> seatToIndex) {
-        String key = SEAT_MAPPING_PREFIX + showId;
+        String key = SeatRedisKeys.mapping(showId);
         Map<String, String> map = seatToIndex.entrySet()
                 .stream()
                 .collect(Collectors.toMap(
@@ -336,52 +354,76 @@ public class RedisBitmapUtil {
                         e -> e.getValue().toString()));
 
         redisTemplate.opsForHash().putAll(key, map);
+        seatMappingCache.put(SeatIndexMapping.of(showId, seatToIndex));
         log.info("Stored seat mapping for show {} ({} seats)", showId, seatToIndex.size());
     }
 
     public Integer getSeatIndex(String showId, String seatNumber) {
-        Object val = redisTemplate.opsForHash().get(SEAT_MAPPING_PREFIX + showId, seatNumber);
-        return val != null ? Integer.parseInt(val.toString()) : null;
+        SeatIndexMapping mapping = getSeatMapping(showId);
+        if (mapping == null) {
+            return null;
+        }
+        int index = mapping.indexOf(seatNumber);
+        return index >= 0 ? index : null;
     }
 
     public String getSeatNumber(String showId, int seatIndex) {
-        Map<Object, Object> map = redisTemplate.opsForHash().entries(SEAT_MAPPING_PREFIX + showId);
-        for (Map.Entry<Object, Object> e : map.entrySet()) {
-            if (Integer.parseInt(e.getValue().toString()) == seatIndex) {
-                return e.getKey().toString();
-            }
+        SeatIndexMapping mapping = getSeatMapping(showId);
+        return mapping != null ? mapping.seatAt(seatIndex) : null;
+    }
+
+    /**
+     * Returns the in-process mapping for a show, building it from SEAT_MAP:{showId}
+     * with a single HGETALL the first time it is requested.
+     */
+    public SeatIndexMapping getSeatMapping(String showId) {
+        return seatMappingCache.get(showId, this::loadSeatMapping);
+    }
+
+    private SeatIndexMapping loadSeatMapping(String showId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(SeatRedisKeys.mapping(showId));
+        if (entries.isEmpty()) {
+            return null;
         }
-        return null;
+
+        Map<String, Integer> seatToIndex = new HashMap<>(entries.size() * 2);
+        entries.forEach((seat, index) -> seatToIndex.put(seat.toString(), Integer.parseInt(index.toString())));
+
+        log.debug("Loaded seat mapping for show {} ({} seats)", showId, seatToIndex.size());
+        return SeatIndexMapping.of(showId, seatToIndex);
     }
 
     /* ===================== CLEANUP ===================== */
 
     public void clearLocksOnly(String showId) {
-        Set<String> locks = redisTemplate.keys(SEAT_LOCK_PREFIX + showId + ":*");
-        Set<String> metas = redisTemplate.keys(SEAT_LOCK_META_PREFIX + showId + ":*");
+        SeatIndexMapping mapping = getSeatMapping(showId);
+        long reclaimed = seatLockStore.clearLocks(showId, mapping != null ? mapping.size() : 0);
 
-        if (locks != null && !locks.isEmpty())
-            redisTemplate.delete(locks);
-        if (metas != null && !metas.isEmpty())
-            redisTemplate.delete(metas);
-
-        log.info("Cleared all locks for show {}", showId);
+        meterRegistry.counter(LOCK_KEYS_RECLAIMED_METRIC, "store", seatLockStore.mode().name().toLowerCase())
+                .increment(reclaimed);
+        log.info("Cleared all locks for show {} ({} keys reclaimed)", showId, reclaimed);
     }
 
     public void clearShowData(String showId) {
-        redisTemplate.delete(SEAT_AVAILABILITY_PREFIX + showId);
-        redisTemplate.delete(SEAT_MAPPING_PREFIX + showId);
+        // Locks first: the seat mapping tells the lock store which keys to drop
         clearLocksOnly(showId);
+        redisTemplate.unlink(List.of(SeatRedisKeys.availability(showId), SeatRedisKeys.mapping(showId)));
+        seatMappingCache.invalidate(showId);
         log.info("Cleared all seat data for show {}", showId);
     }
 
     /* ===================== HELPERS ===================== */
 
-    private String lockKey(String showId, int index) {
-        return SEAT_LOCK_PREFIX + showId + ":" + index;
-    }
-
-    private String metaKey(String showId, int index) {
-        return SEAT_LOCK_META_PREFIX + showId + ":" + index;
+    /**
+     * Human readable seat list for error messages, e.g. "Seat A1 is" / "Seats A1, A2 are".
+     */
+    public String describeSeats(String showId, List<Integer> indices) {
+        List<String> seats = new ArrayList<>();
+        for (Integer index : indices) {
+            String seatNo = getSeatNumber(showId, index);
+            seats.add(seatNo != null ? seatNo : String.valueOf(index));
+        }
+        return (seats.size() == 1 ? "Seat " : "Seats ") + String.join(", ", seats)
+                + (seats.size() == 1 ? " is" : " are");
     }
-}
\ No newline at end of file
+}
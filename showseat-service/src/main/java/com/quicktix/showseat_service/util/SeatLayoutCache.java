@@ -0,0 +1,58 @@
+package com.quicktix.showseat_service.util;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.quicktix.showseat_service.config.AppConfig;
+import com.quicktix.showseat_service.model.document.Row;
+import com.quicktix.showseat_service.model.document.SeatLayout;
+import com.quicktix.showseat_service.repository.SeatLayoutRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * In-process cache of SeatLayout documents, bounded by total cell count so a
+ * few very large auditoriums cannot crowd out everything else.
+ *
+ * Layouts are not edited after creation (a change is a new layout with a new
+ * version), so entries live until evicted or until this instance deactivates
+ * or deletes the layout.
+ */
+@Component
+public class SeatLayoutCache {
+
+    private final SeatLayoutRepository layoutRepository;
+    private final Cache<String, SeatLayout> cache;
+
+    public SeatLayoutCache(SeatLayoutRepository layoutRepository, AppConfig appConfig, MeterRegistry meterRegistry) {
+        this.layoutRepository = layoutRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(appConfig.getCache().getLayoutMaxCells())
+                .weigher((String id, SeatLayout layout) -> weigh(layout))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "seatLayoutCache");
+    }
+
+    public Optional<SeatLayout> findById(String layoutId) {
+        return Optional.ofNullable(cache.get(layoutId, id -> layoutRepository.findById(id).orElse(null)));
+    }
+
+    public void invalidate(String layoutId) {
+        cache.invalidate(layoutId);
+    }
+
+    private static int weigh(SeatLayout layout) {
+        int cells = 1;
+        if (layout.getRows() != null) {
+            for (Row row : layout.getRows()) {
+                cells += row.getCells() != null ? row.getCells().size() : 0;
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,146 @@
+package com.quicktix.showseat_service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.quicktix.showseat_service.config.AppConfig;
+import com.quicktix.showseat_service.model.redis.SeatBatchResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves locks written by the key-per-seat store into the hash store when a
+ * deployment switches app.seat-lock.store to HASH.
+ *
+ * Legacy locks live at most one lock TTL, so switching without migrating
+ * only lets those seats be double-locked until they expire. With
+ * app.seat-lock.migrate-legacy=true they are carried over on startup with
+ * their remaining TTL instead.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.seat-lock", name = "store", havingValue = "hash")
+public class SeatLockMigrator {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final HashSeatLockStore hashSeatLockStore;
+    private final AppConfig appConfig;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!appConfig.getSeatLock().isMigrateLegacy()) {
+            return;
+        }
+
+        try {
+            int migrated = migrateLegacyLocks();
+            log.info("Migrated {} legacy seat locks to the hash store", migrated);
+        } catch (Exception e) {
+            log.error("Legacy seat lock migration failed", e);
+        }
+    }
+
+    /**
+     * Scans SEAT_LOCK:* in batches and re-creates each live lock in the hash
+     * store for its remaining TTL, then deletes the legacy keys.
+     *
+     * @return number of locks carried over
+     */
+    public int migrateLegacyLocks() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(SeatRedisKeys.SEAT_LOCK_PREFIX + "*")
+                .count(BATCH_SIZE)
+                .build();
+
+        int migrated = 0;
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == BATCH_SIZE) {
+                    migrated += migrateBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            migrated += migrateBatch(batch);
+        }
+        return migrated;
+    }
+
+    private int migrateBatch(List<String> lockKeys) {
+        List<String> metaKeys = new ArrayList<>(lockKeys.size());
+        for (String lockKey : lockKeys) {
+            metaKeys.add(SeatRedisKeys.SEAT_LOCK_META_PREFIX
+                    + lockKey.substring(SeatRedisKeys.SEAT_LOCK_PREFIX.length()));
+        }
+
+        // PTTL + owner of every lock in one round trip
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < lockKeys.size(); i++) {
+                connection.keyCommands().pTtl(SeatRedisKeys.raw(lockKeys.get(i)));
+                connection.hashCommands().hMGet(SeatRedisKeys.raw(metaKeys.get(i)),
+                        SeatRedisKeys.raw("userId"), SeatRedisKeys.raw("sessionId"));
+            }
+            return null;
+        });
+
+        int migrated = 0;
+        for (int i = 0; i < lockKeys.size(); i++) {
+            String lockKey = lockKeys.get(i);
+            long pttl = ((Number) results.get(i * 2)).longValue();
+            List<?> owner = (List<?>) results.get(i * 2 + 1);
+
+            String id = lockKey.substring(SeatRedisKeys.SEAT_LOCK_PREFIX.length());
+            int separator = id.lastIndexOf(':');
+            String userId = unquote(owner.get(0));
+            String sessionId = unquote(owner.get(1));
+
+            if (pttl > 0 && separator > 0 && userId != null && sessionId != null) {
+                String showId = id.substring(0, separator);
+                int seatIndex = Integer.parseInt(id.substring(separator + 1));
+                long ttlSeconds = Math.max(1, (pttl + 999) / 1000);
+
+                SeatBatchResult result = hashSeatLockStore.lock(
+                        showId, List.of(seatIndex), Long.valueOf(userId), sessionId, ttlSeconds);
+                if (result.isApplied()) {
+                    migrated++;
+                } else {
+                    log.warn("Legacy lock {} conflicts with hash store state {}, dropping it",
+                            lockKey, result.getOutcomes());
+                }
+            }
+
+            stringRedisTemplate.delete(List.of(lockKey, metaKeys.get(i)));
+        }
+        return migrated;
+    }
+
+    /**
+     * Older metadata was JSON-encoded ("\"42\""), newer is raw.
+     */
+    private static String unquote(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString();
+        if (text.length() >= 2 && text.startsWith("\"") && text.endsWith("\"")) {
+            return text.substring(1, text.length() - 1);
+        }
+        return text;
+    }
+}
@@ -0,0 +1,152 @@
+package com.quicktix.showseat_service.util;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.quicktix.showseat_service.enums.SeatOutcome;
+import com.quicktix.showseat_service.model.redis.SeatBatchResult;
+
+/**
+ * Lua scripts backing the seat engine, loaded once from the classpath.
+ *
+ * RedisScript instances carry their SHA1, so Spring executes them with
+ * EVALSHA and only falls back to EVAL (which caches the script server side)
+ * the first time a Redis node sees them.
+ *
+ * Both lock stores return the same reply shapes, decoded by the helpers below.
+ */
+@SuppressWarnings("rawtypes")
+public final class SeatLockScripts {
+
+    // Key-per-seat store
+    public static final RedisScript<List> LOCK_SEATS = load("lock_seats.lua");
+    public static final RedisScript<List> CONFIRM_SEATS = load("confirm_seats.lua");
+    public static final RedisScript<List> UNLOCK_SEATS = load("unlock_seats.lua");
+
+    // Hash-per-show store
+    public static final RedisScript<List> HASH_LOCK_SEATS = load("hash_lock_seats.lua");
+    public static final RedisScript<List> HASH_CONFIRM_SEATS = load("hash_confirm_seats.lua");
+    public static final RedisScript<List> HASH_UNLOCK_SEATS = load("hash_unlock_seats.lua");
+    public static final RedisScript<List> HASH_REAP_LOCKS = load("hash_reap_locks.lua");
+
+    // Redis seat frame relay
+    public static final RedisScript<Long> PUBLISH_SEAT_FRAME =
+            RedisScript.of(new ClassPathResource("scripts/publish_seat_frame.lua"), Long.class);
+
+    // Waiting room
+    public static final RedisScript<List> WAITING_ROOM_JOIN = load("waiting_room_join.lua");
+    public static final RedisScript<List> WAITING_ROOM_ADMIT = load("waiting_room_admit.lua");
+
+    /** Per-seat codes returned by the confirm scripts, by position */
+    private static final SeatOutcome[] CONFIRM_OUTCOMES = {
+            SeatOutcome.CONFIRMED,
+            SeatOutcome.CONFIRMED_AFTER_EXPIRY,
+            SeatOutcome.ALREADY_BOOKED,
+            SeatOutcome.LOCKED_BY_OTHER,
+            SeatOutcome.NOT_LOCKED
+    };
+
+    /** How long a confirmed booking id is remembered for replayed confirms */
+    static final long BOOKING_MARKER_TTL_SECONDS = 24 * 60 * 60;
+
+    private SeatLockScripts() {
+    }
+
+    private static RedisScript<List> load(String name) {
+        return RedisScript.of(new ClassPathResource("scripts/" + name), List.class);
+    }
+
+    /**
+     * Lock replies: {0} on success, {1, idx...} booked, {2, idx...} locked.
+     */
+    static SeatBatchResult lockResult(List<Integer> seatIndices, List<?> reply) {
+        if (reply == null || reply.isEmpty()) {
+            throw new RuntimeException("LOCK_OPERATION_FAILED: Empty reply from lock script");
+        }
+
+        Map<Integer, SeatOutcome> outcomes = new LinkedHashMap<>();
+        long code = ((Number) reply.get(0)).longValue();
+        if (code == 0) {
+            seatIndices.forEach(index -> outcomes.put(index, SeatOutcome.LOCKED));
+            return SeatBatchResult.builder().applied(true).outcomes(outcomes).build();
+        }
+
+        SeatOutcome conflict = code == 1 ? SeatOutcome.ALREADY_BOOKED : SeatOutcome.LOCKED_BY_OTHER;
+        for (int i = 1; i < reply.size(); i++) {
+            outcomes.put(((Number) reply.get(i)).intValue(), conflict);
+        }
+        return SeatBatchResult.builder().applied(false).outcomes(outcomes).build();
+    }
+
+    /**
+     * Marker key passed to the confirm scripts. Without a booking id the
+     * scripts never touch it, so any key will do.
+     */
+    static String bookingMarker(String bookingId) {
+        return SeatRedisKeys.bookingProcessed(bookingId != null ? bookingId : "");
+    }
+
+    /**
+     * Confirm arguments: userId, sessionId, allowExpired, marker TTL, seat indices.
+     */
+    static Object[] confirmArgs(List<Integer> seatIndices, Long userId, String sessionId, boolean allowExpired,
+            String bookingId) {
+        Object[] args = new Object[seatIndices.size() + 4];
+        args[0] = userId.toString();
+        args[1] = sessionId;
+        args[2] = allowExpired ? "1" : "0";
+        args[3] = bookingId != null ? String.valueOf(BOOKING_MARKER_TTL_SECONDS) : "0";
+        for (int i = 0; i < seatIndices.size(); i++) {
+            args[i + 4] = seatIndices.get(i).toString();
+        }
+        return args;
+    }
+
+    /**
+     * Confirm replies: {applied, code per seat...}, or {2} when the booking
+     * was already confirmed.
+     */
+    static SeatBatchResult confirmResult(List<Integer> seatIndices, List<?> reply) {
+        Map<Integer, SeatOutcome> outcomes = new LinkedHashMap<>();
+        if (((Number) reply.get(0)).intValue() == 2) {
+            seatIndices.forEach(index -> outcomes.put(index, SeatOutcome.ALREADY_CONFIRMED));
+            return SeatBatchResult.builder().applied(true).outcomes(outcomes).build();
+        }
+        for (int i = 0; i < seatIndices.size(); i++) {
+            outcomes.put(seatIndices.get(i), CONFIRM_OUTCOMES[((Number) reply.get(i + 1)).intValue()]);
+        }
+
+        boolean applied = ((Number) reply.get(0)).intValue() == 1;
+        return SeatBatchResult.builder().applied(applied).outcomes(outcomes).build();
+    }
+
+    /**
+     * Unlock replies: one code per seat, 0 released, 1 not owned.
+     */
+    static SeatBatchResult unlockResult(List<Integer> seatIndices, List<?> reply) {
+        Map<Integer, SeatOutcome> outcomes = new LinkedHashMap<>();
+        boolean anyReleased = false;
+        for (int i = 0; i < seatIndices.size(); i++) {
+            boolean released = ((Number) reply.get(i)).intValue() == 0;
+            anyReleased |= released;
+            outcomes.put(seatIndices.get(i), released ? SeatOutcome.RELEASED : SeatOutcome.NOT_OWNED);
+        }
+
+        return SeatBatchResult.builder().applied(anyReleased).outcomes(outcomes).build();
+    }
+
+    /**
+     * Redis bitmaps are big-endian within each byte: offset 0 is the MSB of byte 0.
+     */
+    static boolean isBitSet(byte[] bitmap, int offset) {
+        int byteIndex = offset >>> 3;
+        if (bitmap == null || byteIndex >= bitmap.length) {
+            return false;
+        }
+        return (bitmap[byteIndex] & (0x80 >>> (offset & 7))) != 0;
+    }
+}
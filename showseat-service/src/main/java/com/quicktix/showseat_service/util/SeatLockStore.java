@@ -0,0 +1,61 @@
+package com.quicktix.showseat_service.util;
+
+import java.util.List;
+
+import com.quicktix.showseat_service.enums.SeatLockStoreMode;
+import com.quicktix.showseat_service.model.redis.SeatBatchResult;
+
+/**
+ * Where seat locks live in Redis. The availability bitmap is shared by every
+ * implementation; only the lock representation differs.
+ *
+ * Selected with app.seat-lock.store (see {@link SeatLockStoreMode}).
+ */
+public interface SeatLockStore {
+
+    SeatLockStoreMode mode();
+
+    /**
+     * All-or-nothing lock. Conflicting seats are reported, nothing is written.
+     */
+    SeatBatchResult lock(String showId, List<Integer> seatIndices, Long userId, String sessionId, long ttlSeconds);
+
+    /**
+     * All-or-nothing booking of seats locked by the owner (or, when allowed,
+     * whose lock expired while the seat stayed free). With a booking id the
+     * booking is marked processed in the same call, and a repeated confirm
+     * for it is reported as replayed instead of as a conflict.
+     */
+    SeatBatchResult confirm(String showId, List<Integer> seatIndices, Long userId, String sessionId,
+            boolean allowExpired, String bookingId);
+
+    /**
+     * Releases the seats of the set that are locked by the owner.
+     */
+    SeatBatchResult unlock(String showId, List<Integer> seatIndices, Long userId, String sessionId);
+
+    boolean isLocked(String showId, int seatIndex);
+
+    boolean isLockedBy(String showId, int seatIndex, Long userId, String sessionId);
+
+    /**
+     * One status code per seat index (0=AVAIL, 1=LOCKED, 2=BOOKED), read in a
+     * single round trip.
+     */
+    byte[] seatStatuses(String showId, int totalSeats);
+
+    /**
+     * Number of live locks per show, for many shows in a single round trip.
+     *
+     * @param totalSeats seat count of each show, in the order of showIds
+     */
+    long[] countLocks(List<String> showIds, int[] totalSeats);
+
+    /**
+     * Drops every lock of the show without blocking Redis (UNLINK, no KEYS).
+     *
+     * @param totalSeats seat count of the show, or 0 when unknown
+     * @return number of Redis keys reclaimed
+     */
+    long clearLocks(String showId, int totalSeats);
+}
@@ -0,0 +1,49 @@
+package com.quicktix.showseat_service.util;
+
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.quicktix.showseat_service.config.AppConfig;
+import com.quicktix.showseat_service.model.redis.SeatIndexMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * In-process, per-show cache of seat index mappings.
+ *
+ * A show's mapping is written once when the show is created and never
+ * changes afterwards, so it is safe to keep it until the show is deleted.
+ */
+@Component
+public class SeatMappingCache {
+
+    private final Cache<String, SeatIndexMapping> cache;
+
+    public SeatMappingCache(AppConfig appConfig, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(appConfig.getCache().getSeatMappingMaxShows())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "seatMappingCache");
+    }
+
+    /**
+     * Returns the cached mapping, loading it on a miss. A loader returning null
+     * (e.g. the show has no mapping yet) is not cached.
+     */
+    public SeatIndexMapping get(String showId, Function<String, SeatIndexMapping> loader) {
+        return cache.get(showId, loader);
+    }
+
+    public void put(SeatIndexMapping mapping) {
+        cache.put(mapping.getShowId(), mapping);
+    }
+
+    public void invalidate(String showId) {
+        cache.invalidate(showId);
+    }
+}
@@ -0,0 +1,89 @@
+package com.quicktix.showseat_service.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis key layout of the seat engine.
+ */
+public final class SeatRedisKeys {
+
+    public static final String SEAT_AVAILABILITY_PREFIX = "SEAT_AVAIL:"; // BITMAP
+    public static final String SEAT_LOCK_PREFIX = "SEAT_LOCK:"; // STRING (SETNX), keys store
+    public static final String SEAT_LOCK_META_PREFIX = "SEAT_LOCK_META:"; // HASH, keys store
+    public static final String SEAT_LOCKS_PREFIX = "SEAT_LOCKS:"; // HASH idx -> owner, hash store
+    public static final String SEAT_LOCK_EXPIRY_PREFIX = "SEAT_LOCK_EXP:"; // ZSET idx by expiry, hash store
+    public static final String SEAT_LOCK_SHOWS = "SEAT_LOCK_SHOWS"; // ZSET showId by latest expiry, hash store
+    public static final String SEAT_MAPPING_PREFIX = "SEAT_MAP:";
+    public static final String BOOKING_PROCESSED_PREFIX = "BOOKING_PROCESSED:";
+    public static final String SEAT_FRAME_SEQUENCE_PREFIX = "SEAT_FRAME_SEQ:"; // STRING counter, redis relay
+    public static final String SEAT_FRAMES_CHANNEL_PREFIX = "SEAT_FRAMES:"; // pub/sub channel, redis relay
+    public static final String WAITING_ROOMS = "WAITING_ROOMS"; // SET showId of open rooms
+    public static final String WAITING_ROOM_QUEUE_PREFIX = "WAITING_ROOM_Q:"; // ZSET userId by join sequence
+    public static final String WAITING_ROOM_SEQUENCE_PREFIX = "WAITING_ROOM_SEQ:"; // STRING join counter
+    public static final String WAITING_ROOM_ADMITTED_PREFIX = "WAITING_ROOM_ADM:"; // HASH userId -> token|expiryMs
+    public static final String WAITING_ROOM_ADMIT_EXPIRY_PREFIX = "WAITING_ROOM_ADM_EXP:"; // ZSET userId by expiry
+    public static final String WAITING_ROOM_TICK_PREFIX = "WAITING_ROOM_TICK:"; // STRING (SET NX PX), admitting instance
+
+    private SeatRedisKeys() {
+    }
+
+    public static String availability(String showId) {
+        return SEAT_AVAILABILITY_PREFIX + showId;
+    }
+
+    public static String lock(String showId, int index) {
+        return SEAT_LOCK_PREFIX + showId + ":" + index;
+    }
+
+    public static String lockMeta(String showId, int index) {
+        return SEAT_LOCK_META_PREFIX + showId + ":" + index;
+    }
+
+    public static String locks(String showId) {
+        return SEAT_LOCKS_PREFIX + showId;
+    }
+
+    public static String lockExpiry(String showId) {
+        return SEAT_LOCK_EXPIRY_PREFIX + showId;
+    }
+
+    public static String mapping(String showId) {
+        return SEAT_MAPPING_PREFIX + showId;
+    }
+
+    public static String bookingProcessed(String bookingId) {
+        return BOOKING_PROCESSED_PREFIX + bookingId;
+    }
+
+    public static String frameSequence(String showId) {
+        return SEAT_FRAME_SEQUENCE_PREFIX + showId;
+    }
+
+    public static String frameChannel(String showId) {
+        return SEAT_FRAMES_CHANNEL_PREFIX + showId;
+    }
+
+    public static String waitingQueue(String showId) {
+        return WAITING_ROOM_QUEUE_PREFIX + showId;
+    }
+
+    public static String waitingSequence(String showId) {
+        return WAITING_ROOM_SEQUENCE_PREFIX + showId;
+    }
+
+    public static String admitted(String showId) {
+        return WAITING_ROOM_ADMITTED_PREFIX + showId;
+    }
+
+    public static String admitExpiry(String showId) {
+        return WAITING_ROOM_ADMIT_EXPIRY_PREFIX + showId;
+    }
+
+    public static String admitTick(String showId) {
+        return WAITING_ROOM_TICK_PREFIX + showId;
+    }
+
+    public static byte[] raw(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
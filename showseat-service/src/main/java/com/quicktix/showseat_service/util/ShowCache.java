@@ -0,0 +1,64 @@
+package com.quicktix.showseat_service.util;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.quicktix.showseat_service.config.AppConfig;
+import com.quicktix.showseat_service.model.document.Show;
+import com.quicktix.showseat_service.repository.ShowRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Short-lived, in-process cache of Show documents for the seat hot path
+ * (lock, unlock, confirm, availability, pricing).
+ *
+ * Entries expire after app.cache.show-ttl-seconds and are invalidated locally
+ * when this instance changes a show. Seat counters are not read from here;
+ * anything that updates a show must load it from the repository.
+ */
+@Component
+public class ShowCache {
+
+    private final ShowRepository showRepository;
+    private final Cache<String, Show> cache;
+
+    public ShowCache(ShowRepository showRepository, AppConfig appConfig, MeterRegistry meterRegistry) {
+        this.showRepository = showRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(appConfig.getCache().getShowMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(appConfig.getCache().getShowTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "showCache");
+    }
+
+    public Optional<Show> findById(String showId) {
+        return Optional.ofNullable(cache.get(showId, id -> showRepository.findById(id).orElse(null)));
+    }
+
+    /**
+     * Cached shows plus one repository query for the misses. Unknown ids are
+     * left out of the result.
+     */
+    public Map<String, Show> findAllById(Collection<String> showIds) {
+        return cache.getAll(showIds, missing -> {
+            Map<String, Show> loaded = new HashMap<>();
+            showRepository.findAllById(List.copyOf(missing)).forEach(show -> loaded.put(show.getId(), show));
+            return loaded;
+        });
+    }
+
+    public void invalidate(String showId) {
+        cache.invalidate(showId);
+    }
+}
@@ -0,0 +1,116 @@
+package com.quicktix.showseat_service.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.quicktix.showseat_service.enums.SeatType;
+import com.quicktix.showseat_service.model.document.Pricing;
+
+import lombok.Getter;
+
+/**
+ * Immutable per-show price table, indexed by seat index and held in paise.
+ *
+ * Each seat is priced from the SeatType set on its layout cell. Cells without
+ * a seat type (and seats the layout does not know) fall back to the legacy
+ * row-letter tiers, so older layouts keep their existing prices.
+ */
+public final class ShowPriceTable {
+
+    private static final SeatType[] SEAT_TYPES = SeatType.values();
+    private static final long NO_PRICE = -1;
+
+    @Getter
+    private final String showId;
+
+    /**
+     * Price in paise per seat index, -1 when the tier has no price
+     */
+    private final long[] seatPaise;
+
+    /**
+     * Price in paise per SeatType ordinal, used for seats outside the layout
+     */
+    private final long[] tierPaise;
+
+    private final LayoutIndex layoutIndex;
+
+    private ShowPriceTable(String showId, long[] seatPaise, long[] tierPaise, LayoutIndex layoutIndex) {
+        this.showId = showId;
+        this.seatPaise = seatPaise;
+        this.tierPaise = tierPaise;
+        this.layoutIndex = layoutIndex;
+    }
+
+    /**
+     * @param layoutIndex compiled layout of the show, or null if the layout is gone
+     */
+    public static ShowPriceTable build(String showId, Pricing pricing, LayoutIndex layoutIndex) {
+        long[] tierPaise = new long[SEAT_TYPES.length];
+        for (SeatType type : SEAT_TYPES) {
+            tierPaise[type.ordinal()] = toPaise(pricing.getPriceForSeatType(type.name()));
+        }
+
+        int total = layoutIndex != null ? layoutIndex.totalSeats() : 0;
+        long[] seatPaise = new long[total];
+        for (int i = 0; i < total; i++) {
+            SeatType type = layoutIndex.seatType(i);
+            if (type == null) {
+                type = rowTier(layoutIndex.rowLabel(layoutIndex.rowOf(i)), layoutIndex.seatAt(i));
+            }
+            seatPaise[i] = tierPaise[type.ordinal()];
+        }
+
+        return new ShowPriceTable(showId, seatPaise, tierPaise, layoutIndex);
+    }
+
+    public int size() {
+        return seatPaise.length;
+    }
+
+    /**
+     * @return price of the seat index in paise, or -1 if its tier has no price
+     */
+    public long paiseAt(int index) {
+        return seatPaise[index];
+    }
+
+    /**
+     * @return price of the seat, or null if its tier has no price
+     */
+    public BigDecimal priceOf(String seatNumber) {
+        int index = layoutIndex != null && seatNumber != null ? layoutIndex.indexOf(seatNumber) : -1;
+        long paise = index >= 0
+                ? seatPaise[index]
+                : tierPaise[rowTier(null, seatNumber).ordinal()];
+        return paise == NO_PRICE ? null : BigDecimal.valueOf(paise, 2);
+    }
+
+    private static long toPaise(BigDecimal price) {
+        if (price == null) {
+            return NO_PRICE;
+        }
+        return price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * Legacy classification by row letter: A-C DIAMOND, D-F PLATINUM,
+     * G-J GOLD, everything else SILVER.
+     */
+    static SeatType rowTier(String rowLabel, String seatNumber) {
+        String source = rowLabel != null && !rowLabel.isEmpty() ? rowLabel : seatNumber;
+        if (source == null || source.isEmpty()) {
+            return SeatType.SILVER;
+        }
+
+        char rowChar = Character.toUpperCase(source.charAt(0));
+        if (rowChar >= 'A' && rowChar <= 'C') {
+            return SeatType.DIAMOND;
+        } else if (rowChar >= 'D' && rowChar <= 'F') {
+            return SeatType.PLATINUM;
+        } else if (rowChar >= 'G' && rowChar <= 'J') {
+            return SeatType.GOLD;
+        }
+        return SeatType.SILVER;
+    }
+}
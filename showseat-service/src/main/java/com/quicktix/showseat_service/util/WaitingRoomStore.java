@@ -0,0 +1,164 @@
+package com.quicktix.showseat_service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis side of the per-show waiting rooms.
+ *
+ * A room is a FIFO of user ids in WAITING_ROOM_Q:{showId}, scored by a join
+ * counter so the order survives any number of instances. Admissions live in
+ * WAITING_ROOM_ADM:{showId} (userId -> token|expiryMs) indexed by expiry in
+ * WAITING_ROOM_ADM_EXP:{showId}, the same layout as the hash lock store.
+ * WAITING_ROOMS lists the shows whose room is open.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomStore {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void open(String showId) {
+        stringRedisTemplate.opsForSet().add(SeatRedisKeys.WAITING_ROOMS, showId);
+    }
+
+    /**
+     * Closes the room and forgets its queue and admissions.
+     */
+    public void close(String showId) {
+        stringRedisTemplate.opsForSet().remove(SeatRedisKeys.WAITING_ROOMS, showId);
+        stringRedisTemplate.unlink(List.of(
+                SeatRedisKeys.waitingQueue(showId),
+                SeatRedisKeys.waitingSequence(showId),
+                SeatRedisKeys.admitted(showId),
+                SeatRedisKeys.admitExpiry(showId),
+                SeatRedisKeys.admitTick(showId)));
+    }
+
+    public Set<String> openRooms() {
+        Set<String> rooms = stringRedisTemplate.opsForSet().members(SeatRedisKeys.WAITING_ROOMS);
+        return rooms != null ? rooms : Set.of();
+    }
+
+    /**
+     * Queues the user unless already queued or admitted.
+     *
+     * @return the user's place, or their live admission
+     */
+    public Place join(String showId, Long userId, long keyTtlMs) {
+        List<?> reply = stringRedisTemplate.execute(
+                SeatLockScripts.WAITING_ROOM_JOIN,
+                List.of(SeatRedisKeys.waitingQueue(showId),
+                        SeatRedisKeys.waitingSequence(showId),
+                        SeatRedisKeys.admitted(showId)),
+                String.valueOf(userId),
+                String.valueOf(keyTtlMs));
+        if (reply == null || reply.isEmpty()) {
+            throw new RuntimeException("LOCK_OPERATION_FAILED: Empty reply from waiting room script");
+        }
+
+        if (((Number) reply.get(0)).intValue() == 1) {
+            return Place.admission(String.valueOf(reply.get(1)), ((Number) reply.get(2)).longValue());
+        }
+        return Place.queued(((Number) reply.get(1)).longValue(), ((Number) reply.get(2)).longValue());
+    }
+
+    /**
+     * Reads the user's place with one pipelined round trip.
+     *
+     * @return null if the user is neither queued nor admitted
+     */
+    public Place find(String showId, Long userId) {
+        byte[] member = SeatRedisKeys.raw(String.valueOf(userId));
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hGet(SeatRedisKeys.raw(SeatRedisKeys.admitted(showId)), member);
+            connection.zSetCommands().zScore(SeatRedisKeys.raw(SeatRedisKeys.waitingQueue(showId)), member);
+            connection.zSetCommands().zRank(SeatRedisKeys.raw(SeatRedisKeys.waitingQueue(showId)), member);
+            return null;
+        });
+
+        Place admission = parseAdmission((String) results.get(0));
+        if (admission != null && admission.expiresAtMs() > System.currentTimeMillis()) {
+            return admission;
+        }
+        if (results.get(1) == null || results.get(2) == null) {
+            return null;
+        }
+        return Place.queued(((Number) results.get(1)).longValue(), ((Number) results.get(2)).longValue());
+    }
+
+    /**
+     * @return the user's admission, expired or not, or null if none
+     */
+    public Place findAdmission(String showId, Long userId) {
+        Object entry = stringRedisTemplate.opsForHash().get(SeatRedisKeys.admitted(showId), String.valueOf(userId));
+        return parseAdmission((String) entry);
+    }
+
+    /**
+     * Runs one admission tick. Only the first instance to reach the show in a
+     * tick admits; the rest just read the queue.
+     *
+     * @param tokens one fresh token per user to admit
+     */
+    public Tick admit(String showId, List<String> tokens, long tickMs, long tokenTtlMs, long keyTtlMs) {
+        List<String> args = new ArrayList<>(tokens.size() + 3);
+        args.add(String.valueOf(tickMs));
+        args.add(String.valueOf(tokenTtlMs));
+        args.add(String.valueOf(keyTtlMs));
+        args.addAll(tokens);
+
+        List<?> reply = stringRedisTemplate.execute(
+                SeatLockScripts.WAITING_ROOM_ADMIT,
+                List.of(SeatRedisKeys.waitingQueue(showId),
+                        SeatRedisKeys.waitingSequence(showId),
+                        SeatRedisKeys.admitted(showId),
+                        SeatRedisKeys.admitExpiry(showId),
+                        SeatRedisKeys.admitTick(showId)),
+                args.toArray());
+        if (reply == null || reply.size() < 3) {
+            throw new RuntimeException("LOCK_OPERATION_FAILED: Empty reply from waiting room script");
+        }
+
+        return new Tick(
+                ((Number) reply.get(0)).intValue(),
+                ((Number) reply.get(1)).longValue(),
+                ((Number) reply.get(2)).longValue());
+    }
+
+    private static Place parseAdmission(String entry) {
+        if (entry == null) {
+            return null;
+        }
+        int sep = entry.indexOf('|');
+        return Place.admission(entry.substring(0, sep), Long.parseLong(entry.substring(sep + 1)));
+    }
+
+    /**
+     * Queued (sequence, 0-based rank) or admitted (token, expiryMs).
+     */
+    public record Place(boolean admitted, long sequence, long rank, String token, long expiresAtMs) {
+
+        static Place queued(long sequence, long rank) {
+            return new Place(false, sequence, rank, null, 0);
+        }
+
+        static Place admission(String token, long expiresAtMs) {
+            return new Place(true, 0, 0, token, expiresAtMs);
+        }
+    }
+
+    /**
+     * @param admitted users admitted by this call, -1 if another instance had the tick
+     * @param servingSequence join sequence at the head of the queue
+     */
+    public record Tick(int admitted, long servingSequence, long queueLength) {
+    }
+}
@@ -7,18 +7,14 @@ import java.util.Set;
 import org.springframework.stereotype.Component;
 
 import com.quicktix.showseat_service.exception.InvalidSeatException;
-import com.quicktix.showseat_service.model.document.Cell;
-import com.quicktix.showseat_service.model.document.Row;
-import com.quicktix.showseat_service.model.document.SeatLayout;
+import com.quicktix.showseat_service.util.LayoutIndex;
 
 @Component
 public class SeatValidator {
 
-    public void validateSeatNumbers(SeatLayout layout, List<String> seatNumbers) {
-        Set<String> validSeats = getAllValidSeats(layout);
-        
+    public void validateSeatNumbers(LayoutIndex layoutIndex, List<String> seatNumbers) {
         for (String seatNo : seatNumbers) {
-            if (!validSeats.contains(seatNo)) {
+            if (!layoutIndex.contains(seatNo)) {
                 throw new InvalidSeatException("Invalid seat number: " + seatNo);
             }
         }
@@ -37,18 +33,4 @@ public class SeatValidator {
                 String.format("Cannot book more than %d seats at once", maxSeats));
         }
     }
-
-    private Set<String> getAllValidSeats(SeatLayout layout) {
-        Set<String> validSeats = new HashSet<>();
-        
-        for (Row row : layout.getRows()) {
-            for (Cell cell : row.getCells()) {
-                if (cell.getSeatNo() != null && !cell.getSeatNo().isEmpty()) {
-                    validSeats.add(cell.getSeatNo());
-                }
-            }
-        }
-        
-        return validSeats;
-    }
 }
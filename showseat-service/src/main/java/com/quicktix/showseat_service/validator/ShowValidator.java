@@ -1,6 +1,9 @@
 package com.quicktix.showseat_service.validator;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 import org.springframework.stereotype.Component;
 
@@ -42,6 +45,27 @@ public class ShowValidator {
         }
     }
 
+    /**
+     * Shows of one batch are not in the database yet, so check them against
+     * each other with the same inclusive overlap rule.
+     */
+    public void validateNoOverlapWithinBatch(List<CreateShowRequest> requests) {
+        List<CreateShowRequest> sorted = new ArrayList<>(requests);
+        sorted.sort(Comparator.comparing(CreateShowRequest::getScreenId)
+                .thenComparing(CreateShowRequest::getStartTime));
+
+        for (int i = 1; i < sorted.size(); i++) {
+            CreateShowRequest previous = sorted.get(i - 1);
+            CreateShowRequest current = sorted.get(i);
+            if (previous.getScreenId().equals(current.getScreenId())
+                    && !current.getStartTime().isAfter(previous.getEndTime())) {
+                throw new ShowOverlapException(
+                    "Shows in the batch overlap on screen " + current.getScreenId()
+                            + " at " + current.getStartTime());
+            }
+        }
+    }
+
     public void validateBookingAllowed(Show show) {
         if (!show.getBookingEnabled()) {
             throw new BookingNotAllowedException("Booking is not enabled for this show");
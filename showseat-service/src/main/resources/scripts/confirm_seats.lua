@@ -0,0 +1,68 @@
+-- Atomically confirm (book) a set of seats held by one owner.
+--
+-- KEYS[1]            availability bitmap   SEAT_AVAIL:{showId}
+-- KEYS[2 .. n+1]     lock keys             SEAT_LOCK:{showId}:{idx}
+-- KEYS[n+2 .. 2n+1]  lock metadata hashes  SEAT_LOCK_META:{showId}:{idx}
+-- KEYS[2n+2]         booking marker        BOOKING_PROCESSED:{bookingId} (only with ARGV[4] > 0)
+-- ARGV[1] userId, ARGV[2] sessionId
+-- ARGV[3] '1' to accept seats whose lock expired but which are still free
+-- ARGV[4] marker TTL in seconds, '0' when the confirm has no booking id
+-- ARGV[5 .. n+4]     seat indices, in the same order as the lock keys
+--
+-- Per-seat codes: 0 owned lock, 1 lock expired but free, 2 already booked,
+-- 3 locked by another owner, 4 not locked.
+-- Returns {1, codes...} when every seat was booked, {0, codes...} otherwise,
+-- and {2} when the booking marker shows this booking was already confirmed.
+-- Nothing is written unless every seat can be confirmed; the marker is set
+-- in the same call, so a repeated confirm can never be seen as a conflict.
+
+local n = #ARGV - 4
+local allowExpired = ARGV[3] == '1'
+local markerTtl = tonumber(ARGV[4])
+local marker = KEYS[2 * n + 2]
+
+if markerTtl > 0 and redis.call('EXISTS', marker) == 1 then
+  return {2}
+end
+
+local function matches(stored, expected)
+  return stored == expected or stored == '"' .. expected .. '"'
+end
+
+local codes = {}
+local ok = true
+for i = 1, n do
+  local idx = tonumber(ARGV[i + 4])
+  local code
+  if redis.call('GETBIT', KEYS[1], idx) == 1 then
+    code = 2
+  elseif redis.call('EXISTS', KEYS[i + 1]) == 1 then
+    local meta = redis.call('HMGET', KEYS[n + i + 1], 'userId', 'sessionId')
+    if matches(meta[1], ARGV[1]) and matches(meta[2], ARGV[2]) then
+      code = 0
+    else
+      code = 3
+    end
+  elseif allowExpired then
+    code = 1
+  else
+    code = 4
+  end
+  codes[i] = code
+  if code > 1 then
+    ok = false
+  end
+end
+
+if ok then
+  for i = 1, n do
+    redis.call('SETBIT', KEYS[1], tonumber(ARGV[i + 4]), 1)
+    redis.call('DEL', KEYS[i + 1], KEYS[n + i + 1])
+  end
+  if markerTtl > 0 then
+    redis.call('SET', marker, 'TRUE', 'EX', markerTtl)
+  end
+end
+
+table.insert(codes, 1, ok and 1 or 0)
+return codes
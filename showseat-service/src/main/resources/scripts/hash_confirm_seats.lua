@@ -0,0 +1,75 @@
+-- Hash store: atomically confirm (book) a set of seats held by one owner.
+--
+-- KEYS[1] availability bitmap     SEAT_AVAIL:{showId}
+-- KEYS[2] locks hash              SEAT_LOCKS:{showId}
+-- KEYS[3] expiry sorted set       SEAT_LOCK_EXP:{showId}
+-- KEYS[4] booking marker          BOOKING_PROCESSED:{bookingId} (only with ARGV[4] > 0)
+-- ARGV[1] userId, ARGV[2] sessionId
+-- ARGV[3] '1' to accept seats whose lock expired but which are still free
+-- ARGV[4] marker TTL in seconds, '0' when the confirm has no booking id
+-- ARGV[5 ..] seat indices
+--
+-- Same reply as confirm_seats.lua: {applied, code per seat...} with codes
+-- 0 owned lock, 1 lock expired but free, 2 already booked,
+-- 3 locked by another owner, 4 not locked; {2} when already confirmed.
+
+local n = #ARGV - 4
+local allowExpired = ARGV[3] == '1'
+local owner = ARGV[1] .. '|' .. ARGV[2]
+local markerTtl = tonumber(ARGV[4])
+
+if markerTtl > 0 and redis.call('EXISTS', KEYS[4]) == 1 then
+  return {2}
+end
+
+local t = redis.call('TIME')
+local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+local expired = redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', now)
+for i = 1, #expired, 500 do
+  redis.call('HDEL', KEYS[2], unpack(expired, i, math.min(i + 499, #expired)))
+end
+if #expired > 0 then
+  redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', now)
+end
+
+local codes = {}
+local ok = true
+for i = 1, n do
+  local idx = ARGV[i + 4]
+  local code
+  if redis.call('GETBIT', KEYS[1], tonumber(idx)) == 1 then
+    code = 2
+  else
+    local value = redis.call('HGET', KEYS[2], idx)
+    if value then
+      if string.match(value, '^(.*)|%d+$') == owner then
+        code = 0
+      else
+        code = 3
+      end
+    elseif allowExpired then
+      code = 1
+    else
+      code = 4
+    end
+  end
+  codes[i] = code
+  if code > 1 then
+    ok = false
+  end
+end
+
+if ok then
+  for i = 1, n do
+    redis.call('SETBIT', KEYS[1], tonumber(ARGV[i + 4]), 1)
+    redis.call('HDEL', KEYS[2], ARGV[i + 4])
+    redis.call('ZREM', KEYS[3], ARGV[i + 4])
+  end
+  if markerTtl > 0 then
+    redis.call('SET', KEYS[4], 'TRUE', 'EX', markerTtl)
+  end
+end
+
+table.insert(codes, 1, ok and 1 or 0)
+return codes
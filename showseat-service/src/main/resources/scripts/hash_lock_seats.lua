@@ -0,0 +1,69 @@
+-- Hash store: atomically lock a set of seats for one owner.
+--
+-- KEYS[1] availability bitmap     SEAT_AVAIL:{showId}
+-- KEYS[2] locks hash              SEAT_LOCKS:{showId}     idx -> userId|sessionId|expiryMs
+-- KEYS[3] expiry sorted set       SEAT_LOCK_EXP:{showId}  idx scored by expiryMs
+-- KEYS[4] shows with locks        SEAT_LOCK_SHOWS         showId scored by latest expiryMs
+-- ARGV[1] ttl seconds, ARGV[2] userId, ARGV[3] sessionId, ARGV[4] showId
+-- ARGV[5 ..] seat indices
+--
+-- Expired entries are reaped first, using the Redis clock (Redis 5+ script
+-- effects replication). Same reply as lock_seats.lua: {0} on success,
+-- {1, idx...} if seats are booked, {2, idx...} if seats are already locked.
+
+local n = #ARGV - 4
+local ttlMs = tonumber(ARGV[1]) * 1000
+
+local t = redis.call('TIME')
+local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+local expired = redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', now)
+for i = 1, #expired, 500 do
+  redis.call('HDEL', KEYS[2], unpack(expired, i, math.min(i + 499, #expired)))
+end
+if #expired > 0 then
+  redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', now)
+end
+
+local booked = {}
+for i = 1, n do
+  local idx = tonumber(ARGV[i + 4])
+  if redis.call('GETBIT', KEYS[1], idx) == 1 then
+    booked[#booked + 1] = idx
+  end
+end
+if #booked > 0 then
+  table.insert(booked, 1, 1)
+  return booked
+end
+
+local locked = {}
+for i = 1, n do
+  if redis.call('HEXISTS', KEYS[2], ARGV[i + 4]) == 1 then
+    locked[#locked + 1] = tonumber(ARGV[i + 4])
+  end
+end
+if #locked > 0 then
+  table.insert(locked, 1, 2)
+  return locked
+end
+
+local expiry = now + ttlMs
+local value = ARGV[2] .. '|' .. ARGV[3] .. '|' .. expiry
+for i = 1, n do
+  redis.call('HSET', KEYS[2], ARGV[i + 4], value)
+  redis.call('ZADD', KEYS[3], expiry, ARGV[i + 4])
+end
+
+-- Whole-structure TTL so an idle show cleans itself up even without the sweeper
+for k = 2, 3 do
+  if redis.call('PTTL', KEYS[k]) < ttlMs then
+    redis.call('PEXPIRE', KEYS[k], ttlMs)
+  end
+end
+
+local latest = redis.call('ZSCORE', KEYS[4], ARGV[4])
+if not latest or tonumber(latest) < expiry then
+  redis.call('ZADD', KEYS[4], expiry, ARGV[4])
+end
+return {0}
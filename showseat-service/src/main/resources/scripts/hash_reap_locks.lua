@@ -0,0 +1,31 @@
+-- Hash store: drop the expired locks of one show.
+--
+-- KEYS[1] locks hash              SEAT_LOCKS:{showId}
+-- KEYS[2] expiry sorted set       SEAT_LOCK_EXP:{showId}
+-- KEYS[3] shows with locks        SEAT_LOCK_SHOWS
+-- ARGV[1] showId
+--
+-- Returns the reaped seat indices. The show leaves SEAT_LOCK_SHOWS once it
+-- has no live lock left.
+
+local t = redis.call('TIME')
+local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now)
+for i = 1, #expired, 500 do
+  redis.call('HDEL', KEYS[1], unpack(expired, i, math.min(i + 499, #expired)))
+end
+if #expired > 0 then
+  redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+end
+
+if redis.call('ZCARD', KEYS[2]) == 0 then
+  redis.call('DEL', KEYS[1])
+  redis.call('ZREM', KEYS[3], ARGV[1])
+end
+
+local reaped = {}
+for i = 1, #expired do
+  reaped[i] = tonumber(expired[i])
+end
+return reaped
@@ -0,0 +1,33 @@
+-- Hash store: release the seats of a set that are locked by the given owner.
+--
+-- KEYS[1] locks hash              SEAT_LOCKS:{showId}
+-- KEYS[2] expiry sorted set       SEAT_LOCK_EXP:{showId}
+-- ARGV[1] userId, ARGV[2] sessionId
+-- ARGV[3 ..] seat indices
+--
+-- Same reply as unlock_seats.lua: one code per seat, 0 released,
+-- 1 not locked by this owner.
+
+local owner = ARGV[1] .. '|' .. ARGV[2]
+
+local t = redis.call('TIME')
+local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+local codes = {}
+for i = 3, #ARGV do
+  local idx = ARGV[i]
+  local value = redis.call('HGET', KEYS[1], idx)
+  local code = 1
+  if value then
+    local expiry = tonumber(string.match(value, '(%d+)$'))
+    if expiry > now and string.match(value, '^(.*)|%d+$') == owner then
+      code = 0
+    end
+    if code == 0 or expiry <= now then
+      redis.call('HDEL', KEYS[1], idx)
+      redis.call('ZREM', KEYS[2], idx)
+    end
+  end
+  codes[#codes + 1] = code
+end
+return codes
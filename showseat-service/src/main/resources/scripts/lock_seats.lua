@@ -0,0 +1,44 @@
+-- Atomically lock a set of seats for one owner.
+--
+-- KEYS[1]            availability bitmap   SEAT_AVAIL:{showId}
+-- KEYS[2 .. n+1]     lock keys             SEAT_LOCK:{showId}:{idx}
+-- KEYS[n+2 .. 2n+1]  lock metadata hashes  SEAT_LOCK_META:{showId}:{idx}
+-- ARGV[1] ttl seconds, ARGV[2] userId, ARGV[3] sessionId, ARGV[4] lockedAt (epoch ms)
+-- ARGV[5 .. n+4]     seat indices, in the same order as the lock keys
+--
+-- Returns {0} on success, {1, idx...} if seats are booked,
+-- {2, idx...} if seats are already locked. Nothing is written on conflict.
+
+local n = #ARGV - 4
+local ttl = tonumber(ARGV[1])
+
+local booked = {}
+for i = 1, n do
+  local idx = tonumber(ARGV[i + 4])
+  if redis.call('GETBIT', KEYS[1], idx) == 1 then
+    booked[#booked + 1] = idx
+  end
+end
+if #booked > 0 then
+  table.insert(booked, 1, 1)
+  return booked
+end
+
+local locked = {}
+for i = 1, n do
+  if redis.call('EXISTS', KEYS[i + 1]) == 1 then
+    locked[#locked + 1] = tonumber(ARGV[i + 4])
+  end
+end
+if #locked > 0 then
+  table.insert(locked, 1, 2)
+  return locked
+end
+
+for i = 1, n do
+  local metaKey = KEYS[n + i + 1]
+  redis.call('SET', KEYS[i + 1], '1', 'EX', ttl)
+  redis.call('HSET', metaKey, 'userId', ARGV[2], 'sessionId', ARGV[3], 'lockedAt', ARGV[4])
+  redis.call('EXPIRE', metaKey, ttl)
+end
+return {0}
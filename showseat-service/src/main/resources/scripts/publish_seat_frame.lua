@@ -0,0 +1,15 @@
+-- Redis relay: number a seat frame and publish it to every instance.
+--
+-- KEYS[1] frame sequence          SEAT_FRAME_SEQ:{showId}
+-- ARGV[1] channel                 SEAT_FRAMES:{showId}
+-- ARGV[2] frame body              timestampMs|change,change,...
+-- ARGV[3] sequence ttl ms
+--
+-- Numbering and publishing in one script means frames of a show reach
+-- subscribers in sequence order whichever instance sent them. Returns the
+-- assigned sequence.
+
+local seq = redis.call('INCR', KEYS[1])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+redis.call('PUBLISH', ARGV[1], seq .. '|' .. ARGV[2])
+return seq
@@ -0,0 +1,26 @@
+-- Release the seats of a set that are locked by the given owner.
+--
+-- KEYS[1 .. n]       lock keys             SEAT_LOCK:{showId}:{idx}
+-- KEYS[n+1 .. 2n]    lock metadata hashes  SEAT_LOCK_META:{showId}:{idx}
+-- ARGV[1] userId, ARGV[2] sessionId
+--
+-- Returns one code per seat: 0 released, 1 not locked by this owner.
+
+local n = #KEYS / 2
+
+local function matches(stored, expected)
+  return stored == expected or stored == '"' .. expected .. '"'
+end
+
+local codes = {}
+for i = 1, n do
+  codes[i] = 1
+  if redis.call('EXISTS', KEYS[i]) == 1 then
+    local meta = redis.call('HMGET', KEYS[n + i], 'userId', 'sessionId')
+    if matches(meta[1], ARGV[1]) and matches(meta[2], ARGV[2]) then
+      redis.call('DEL', KEYS[i], KEYS[n + i])
+      codes[i] = 0
+    end
+  end
+end
+return codes
@@ -0,0 +1,57 @@
+-- Waiting room: admit the head of a show's queue for one tick.
+--
+-- KEYS[1] queue sorted set        WAITING_ROOM_Q:{showId}
+-- KEYS[2] join counter            WAITING_ROOM_SEQ:{showId}
+-- KEYS[3] admitted hash           WAITING_ROOM_ADM:{showId}
+-- KEYS[4] admission expiry zset   WAITING_ROOM_ADM_EXP:{showId}
+-- KEYS[5] tick marker             WAITING_ROOM_TICK:{showId}
+-- ARGV[1] tick ms
+-- ARGV[2] token ttl ms
+-- ARGV[3] key ttl ms
+-- ARGV[4..] one fresh token per user to admit
+--
+-- Only the first instance to claim the tick marker admits, so the room lets
+-- in one batch per tick however many instances run the scheduler. Others
+-- just read the queue state. Returns {admitted or -1 if the tick was
+-- already claimed, sequence at the head of the queue, queue length}.
+
+local admitted = -1
+
+if redis.call('SET', KEYS[5], '1', 'NX', 'PX', ARGV[1]) then
+  local t = redis.call('TIME')
+  local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+  local expired = redis.call('ZRANGEBYSCORE', KEYS[4], '-inf', now)
+  for i = 1, #expired, 500 do
+    redis.call('HDEL', KEYS[3], unpack(expired, i, math.min(i + 499, #expired)))
+  end
+  if #expired > 0 then
+    redis.call('ZREMRANGEBYSCORE', KEYS[4], '-inf', now)
+  end
+
+  admitted = 0
+  local count = #ARGV - 3
+  if count > 0 then
+    local expiry = now + tonumber(ARGV[2])
+    local head = redis.call('ZPOPMIN', KEYS[1], count)
+    for i = 1, #head, 2 do
+      redis.call('HSET', KEYS[3], head[i], ARGV[4 + admitted] .. '|' .. expiry)
+      redis.call('ZADD', KEYS[4], expiry, head[i])
+      admitted = admitted + 1
+    end
+    if admitted > 0 then
+      redis.call('PEXPIRE', KEYS[3], ARGV[3])
+      redis.call('PEXPIRE', KEYS[4], ARGV[3])
+    end
+  end
+end
+
+local serving
+local first = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+if #first > 0 then
+  serving = tonumber(first[2])
+else
+  serving = tonumber(redis.call('GET', KEYS[2]) or '0') + 1
+end
+
+return {admitted, serving, redis.call('ZCARD', KEYS[1])}
@@ -0,0 +1,33 @@
+-- Waiting room: put a user at the back of a show's queue.
+--
+-- KEYS[1] queue sorted set        WAITING_ROOM_Q:{showId}
+-- KEYS[2] join counter            WAITING_ROOM_SEQ:{showId}
+-- KEYS[3] admitted hash           WAITING_ROOM_ADM:{showId}
+-- ARGV[1] userId
+-- ARGV[2] key ttl ms
+--
+-- Returns {0, sequence, rank} once queued, or {1, token, expiryMs} if the
+-- user already holds a live admission. Joining again keeps the original
+-- place in line.
+
+local t = redis.call('TIME')
+local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+local admission = redis.call('HGET', KEYS[3], ARGV[1])
+if admission then
+  local sep = string.find(admission, '|', 1, true)
+  local expiry = tonumber(string.sub(admission, sep + 1))
+  if expiry > now then
+    return {1, string.sub(admission, 1, sep - 1), expiry}
+  end
+end
+
+local seq = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if not seq then
+  seq = redis.call('INCR', KEYS[2])
+  redis.call('ZADD', KEYS[1], seq, ARGV[1])
+  redis.call('PEXPIRE', KEYS[1], ARGV[2])
+  redis.call('PEXPIRE', KEYS[2], ARGV[2])
+end
+
+return {0, tonumber(seq), redis.call('ZRANK', KEYS[1], ARGV[1])}
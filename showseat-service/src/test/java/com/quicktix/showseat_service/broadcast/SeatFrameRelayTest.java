@@ -0,0 +1,101 @@
+package com.quicktix.showseat_service.broadcast;
+
+import com.quicktix.showseat_service.dto.response.SeatDeltaFrame;
+import com.quicktix.showseat_service.util.SeatLockScripts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class SeatFrameRelayTest {
+
+    private static final String SHOW_ID = "show-1";
+
+    private StringRedisTemplate redis;
+    private SimpMessagingTemplate brokerA;
+    private SimpMessagingTemplate brokerB;
+    private RedisSeatFrameRelay instanceA;
+    private RedisSeatFrameRelay instanceB;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        brokerA = mock(SimpMessagingTemplate.class);
+        brokerB = mock(SimpMessagingTemplate.class);
+        instanceA = new RedisSeatFrameRelay(redis, brokerA, mock(RedisMessageListenerContainer.class));
+        instanceB = new RedisSeatFrameRelay(redis, brokerB, mock(RedisMessageListenerContainer.class));
+
+        // Test double for publish_seat_frame.lua: number the frame and deliver
+        // it to every subscribed instance, as Redis pub/sub would
+        doAnswer(invocation -> {
+            String channel = invocation.getArgument(2);
+            String body = sequence.incrementAndGet() + "|" + invocation.getArgument(3);
+            DefaultMessage message = new DefaultMessage(
+                    channel.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+            instanceA.onMessage(message, null);
+            instanceB.onMessage(message, null);
+            return sequence.get();
+        }).when(redis).execute(eq(SeatLockScripts.PUBLISH_SEAT_FRAME), anyList(), any(), any(), any());
+    }
+
+    @Test
+    void framesPublishedOnAnyInstanceReachSubscribersOfEveryInstance() {
+        instanceA.publish(SHOW_ID, new int[] { (3 << 2) | 1, (5 << 2) | 2 }, 1000L);
+        instanceB.publish(SHOW_ID, new int[] { 7 << 2 }, 1075L);
+
+        for (SimpMessagingTemplate broker : List.of(brokerA, brokerB)) {
+            ArgumentCaptor<SeatDeltaFrame> frames = ArgumentCaptor.forClass(SeatDeltaFrame.class);
+            verify(broker, times(2)).convertAndSend(eq("/topic/show/" + SHOW_ID), frames.capture());
+
+            SeatDeltaFrame first = frames.getAllValues().get(0);
+            assertEquals(SHOW_ID, first.getShowId());
+            assertEquals(1, first.getSeq());
+            assertArrayEquals(new int[] { 13, 22 }, first.getChanges());
+            assertEquals(1000L, first.getTimestamp());
+
+            SeatDeltaFrame second = frames.getAllValues().get(1);
+            assertEquals(2, second.getSeq());
+            assertArrayEquals(new int[] { 28 }, second.getChanges());
+        }
+    }
+
+    @Test
+    void encodedFramesRoundTrip() {
+        String body = "42|" + RedisSeatFrameRelay.encode(new int[] { 0, 1, 4099 }, 1234L);
+
+        SeatDeltaFrame frame = RedisSeatFrameRelay.decode(SHOW_ID, body);
+
+        assertEquals(42, frame.getSeq());
+        assertEquals(1234L, frame.getTimestamp());
+        assertArrayEquals(new int[] { 0, 1, 4099 }, frame.getChanges());
+    }
+
+    @Test
+    void localRelayNumbersFramesPerShow() {
+        SimpMessagingTemplate broker = mock(SimpMessagingTemplate.class);
+        LocalSeatFrameRelay relay = new LocalSeatFrameRelay(broker);
+
+        relay.publish(SHOW_ID, new int[] { 4 }, 1L);
+        relay.publish(SHOW_ID, new int[] { 8 }, 2L);
+        relay.publish("show-2", new int[] { 12 }, 3L);
+
+        assertEquals(2, relay.currentSequence(SHOW_ID));
+        assertEquals(1, relay.currentSequence("show-2"));
+        verify(broker, times(3)).convertAndSend(startsWith("/topic/show/"), any(SeatDeltaFrame.class));
+
+        relay.evict(SHOW_ID);
+        assertEquals(0, relay.currentSequence(SHOW_ID));
+    }
+}